@@ -0,0 +1,154 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.generated.GeneratedValidatorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+
+import javax.validation.Validation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 방식별 비용 (./gradlew jmh, 결과: build/results/jmh/results.txt)
+ *  ns/op: Score (avgt)
+ *  bytes/op: ·gc.alloc.rate.norm (gc 프로파일러)
+ *
+ * 컨트롤러의 검증 + 분기까지 그대로 실행 (MVC 가 요청마다 만드는 BindingResult, Model 도 포함)
+ *  v1Map: ValidationItemControllerV1 (Map 에 메시지)
+ *  v2FieldError: V2 addItemV1 (new FieldError)
+ *  v2RejectValue: V2 addItemV3_3 (rejectValue -> 메시지 코드 생성)
+ *  v2ItemValidator: V2 addItemV4 (itemValidator)
+ *  v4BeanValidation: Bean Validation (@Validated 와 같음) + V4 addItemV5
+ *  v4FailFast: fail-fast Bean Validation (api add)
+ *  v4Generated: 컴파일 시점에 생성된 검증기 (item.validation.generated=true)
+ *
+ * 저장소는 저장하지 않는 것으로 바꿔서 검증 비용만 보이게 한다.
+ * V3 는 Item 의 필드 제약이 주석 처리되어 있어 (@TotalPriceMin 만) 따로 측정하지 않음
+ * */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationStrategyBenchmark {
+
+    /* valid: 통과, fieldErrors: 이름 공백 + 가격 범위 + 수량 초과, totalPriceMin: 가격 * 수량 미달 */
+    @Param({"valid", "fieldErrors", "totalPriceMin"})
+    String input;
+
+    private ValidationItemControllerV1 controllerV1;
+    private ValidationItemControllerV2 controllerV2;
+    private ValidationItemControllerV4 controllerV4;
+    private SpringValidatorAdapter beanValidator;
+    private FailFastValidator failFastValidator;
+    private GeneratedValidatorRegistry generatedValidator;
+
+    private Item item;
+    private ItemSaveForm form;
+
+    @Setup
+    public void setup() {
+        NoOpItemRepository itemRepository = new NoOpItemRepository();
+        controllerV1 = new ValidationItemControllerV1(itemRepository);
+        controllerV2 = new ValidationItemControllerV2(itemRepository, new itemValidator(), new ValidationMetrics());
+        controllerV4 = new ValidationItemControllerV4(itemRepository, new ValidationResultCache(), new ValidationMetrics());
+        beanValidator = new ItemValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+        failFastValidator = new FailFastValidator();
+        generatedValidator = new GeneratedValidatorRegistry(beanValidator);
+
+        switch (input) {
+            case "valid":
+                init("itemA", 10000, 10);
+                break;
+            case "fieldErrors":
+                init(" ", 10, 10000);
+                break;
+            case "totalPriceMin":
+                init("itemA", 1000, 1);
+                break;
+            default:
+                throw new IllegalArgumentException("input=" + input);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        failFastValidator.destroy();
+    }
+
+    private void init(String itemName, int price, int quantity) {
+        item = new Item(itemName, price, quantity);
+        form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+    }
+
+    @Benchmark
+    public String v1Map() {
+        return controllerV1.addItem(item, new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v2FieldError() {
+        return controllerV2.addItemV1(item, new BeanPropertyBindingResult(item, "item"), new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v2RejectValue() {
+        return controllerV2.addItemV3_3(item, new BeanPropertyBindingResult(item, "item"), new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v2ItemValidator() {
+        return controllerV2.addItemV4(item, new BeanPropertyBindingResult(item, "item"), new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v4BeanValidation() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, bindingResult);
+        return controllerV4.addItemV5(form, bindingResult, new RedirectAttributesModelMap());
+    }
+
+    @Benchmark
+    public String v4FailFast() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        failFastValidator.validate(form, bindingResult);
+        return controllerV4.addItemV5(form, bindingResult, new RedirectAttributesModelMap());
+    }
+
+    @Benchmark
+    public String v4Generated() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        generatedValidator.validate(form, bindingResult);
+        return controllerV4.addItemV5(form, bindingResult, new RedirectAttributesModelMap());
+    }
+
+    /* 저장하지 않음 (저장소 비용, 메모리 증가 제외) */
+    static class NoOpItemRepository extends MemoryItemRepository {
+        @Override
+        public Item save(Item item) {
+            item.setId(1L);
+            item.setVersion(0);
+            return item;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Getter
+@Setter
+public class ItemDataSeeder {
+/**
+ * 부하 테스트용 대량 데이터 생성기
+ * 전체 개수를 CHUNK_SIZE 단위로 나눠서 fork-join 으로 병렬 생성하고, 청크마다 saveAll 로 한번에 저장한다.
+ * 청크마다 (seed + 시작 번호) 로 난수를 만들기 때문에 같은 설정이면 같은 데이터가 나온다. (저장 순서/id 는 다를 수 있음)
+ *
+ * distribution
+ *  uniform: 범위 안에서 고르게
+ *  normal: 범위 가운데를 중심으로 정규분포 (표준편차 = 범위/6, 범위 밖은 잘라냄)
+ * */
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private final ItemRepository itemRepository;
+
+    private long seed = 42;
+    private String distribution = "uniform";
+    private int minPrice = 1000;
+    private int maxPrice = 1000000;
+    private int minQuantity = 1;
+    private int maxQuantity = 9999;
+    private int minNameLength = 4;
+    private int maxNameLength = 20;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public ItemDataSeeder(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    /**
+     * @return 저장한 item 수
+     * */
+    public int seed(int count) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(parallelism, 1));
+        try {
+            return pool.invoke(new SeedTask(0, count));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<Item> generate(int from, int to) {
+        SplittableRandom random = new SplittableRandom(seed + from);
+        List<Item> items = new ArrayList<>(to - from);
+        StringBuilder name = new StringBuilder(maxNameLength);
+        for (int i = from; i < to; i++) {
+            name.setLength(0);
+            int nameLength = next(random, minNameLength, maxNameLength);
+            while (name.length() < nameLength) {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            items.add(new Item(name.toString(), next(random, minPrice, maxPrice), next(random, minQuantity, maxQuantity)));
+        }
+        return items;
+    }
+
+    /* min ~ max (포함) */
+    private int next(SplittableRandom random, int min, int max) {
+        if (min >= max) {
+            return min;
+        }
+        if ("normal".equals(distribution)) {
+            double mean = (min + (double) max) / 2;
+            double deviation = (max - (double) min) / 6;
+            long value = Math.round(mean + nextGaussian(random) * deviation);
+            return (int) Math.max(min, Math.min(max, value));
+        }
+        return (int) random.nextLong(min, max + 1L);
+    }
+
+    /* SplittableRandom 에는 nextGaussian 이 없음 (Box-Muller) */
+    private static double nextGaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private class SeedTask extends RecursiveTask<Integer> {
+        private final int from;
+        private final int to;
+
+        SeedTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return itemRepository.saveAll(generate(from, to)).size();
+            }
+            int mid = (from + to) >>> 1;
+            SeedTask left = new SeedTask(from, mid);
+            left.fork();
+            int right = new SeedTask(mid, to).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.ColumnarItemRepository;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import hello.itemservice.domain.item.ShardedItemRepository;
+import hello.itemservice.domain.item.wal.FsyncPolicy;
+import hello.itemservice.domain.item.wal.ItemWriteAheadLog;
+import hello.itemservice.domain.item.wal.WalItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class ItemRepositoryConfig {
+/**
+ * ItemRepository 구현체 선택
+ * item.repository.type: memory(기본) | columnar | sharded
+ * item.repository.shards: sharded 샤드 수 (0 이면 CPU 코어 수)
+ * item.wal.enabled=true 이면 WAL 로 감싸서 재시작 후에도 item 이 남도록 한다.
+ * */
+
+    @Value("${item.repository.type:memory}")
+    private String repositoryType;
+
+    @Value("${item.repository.shards:0}")
+    private int shardCount;
+
+    @Value("${item.wal.enabled:false}")
+    private boolean walEnabled;
+
+    @Value("${item.wal.path:data/items.wal}")
+    private String walPath;
+
+    @Value("${item.wal.fsync:batch}")
+    private String walFsync;
+
+    @Value("${item.wal.fsync-interval-ms:100}")
+    private long walFsyncIntervalMs;
+
+    @Value("${item.wal.batch-size:64}")
+    private int walBatchSize;
+
+    @Bean
+    public ItemRepository itemRepository() {
+        ItemRepository itemRepository = createRepository();
+        if (!walEnabled) {
+            return itemRepository;
+        }
+        if (itemRepository instanceof ShardedItemRepository) {
+            throw new IllegalArgumentException("sharded 저장소는 WAL 을 지원하지 않습니다.");
+        }
+        FsyncPolicy fsyncPolicy = FsyncPolicy.valueOf(walFsync.toUpperCase());
+        ItemWriteAheadLog wal = new ItemWriteAheadLog(Paths.get(walPath), fsyncPolicy, walFsyncIntervalMs, walBatchSize);
+        return new WalItemRepository(itemRepository, wal);
+    }
+
+    private ItemRepository createRepository() {
+        if ("memory".equals(repositoryType)) {
+            return new MemoryItemRepository();
+        }
+        if ("columnar".equals(repositoryType)) {
+            return new ColumnarItemRepository();
+        }
+        if ("sharded".equals(repositoryType)) {
+            return new ShardedItemRepository(shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors());
+        }
+        throw new IllegalArgumentException("지원하지 않는 item.repository.type 입니다. type=" + repositoryType);
+    }
+}
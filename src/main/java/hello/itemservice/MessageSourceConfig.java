@@ -0,0 +1,39 @@
+package hello.itemservice;
+
+import hello.itemservice.message.PrecompiledMessageSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+@Configuration
+@ConditionalOnProperty(name = "item.messages.precompiled", havingValue = "true", matchIfMissing = true)
+public class MessageSourceConfig {
+/**
+ * spring.messages.* 설정은 그대로 사용하고, 메시지 소스만 PrecompiledMessageSource 로 바꾼다.
+ * (이름이 messageSource 인 빈이 있으면 스프링 부트 기본 메시지 소스는 만들어지지 않음)
+ * item.messages.precompiled=false 이면 기본 ResourceBundleMessageSource 사용
+ * */
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.messages")
+    public MessageSourceProperties messageSourceProperties() {
+        return new MessageSourceProperties();
+    }
+
+    @Bean
+    public MessageSource messageSource(MessageSourceProperties properties) {
+        String[] basenames = StringUtils.commaDelimitedListToStringArray(StringUtils.trimAllWhitespace(properties.getBasename()));
+        PrecompiledMessageSource messageSource = new PrecompiledMessageSource(basenames, properties.getEncoding(), properties.isFallbackToSystemLocale());
+        messageSource.setAlwaysUseMessageFormat(properties.isAlwaysUseMessageFormat());
+        messageSource.setUseCodeAsDefaultMessage(properties.isUseCodeAsDefaultMessage());
+        //한국어(기본), 영어(messages_en) 는 시작할 때 미리 읽어둔다.
+        messageSource.preload(Locale.getDefault(), Locale.KOREA, Locale.KOREAN, Locale.ENGLISH);
+        return messageSource;
+    }
+}
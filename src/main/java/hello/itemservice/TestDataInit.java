@@ -3,23 +3,88 @@ package hello.itemservice;
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TestDataInit {
 
     private final ItemRepository itemRepository;
 
+    @Value("${item.seed.count:0}")
+    private int seedCount;
+
+    @Value("${item.seed.seed:42}")
+    private long seed;
+
+    @Value("${item.seed.distribution:uniform}")
+    private String distribution;
+
+    @Value("${item.seed.price:1000-1000000}")
+    private String priceRange;
+
+    @Value("${item.seed.quantity:1-9999}")
+    private String quantityRange;
+
+    @Value("${item.seed.name-length:4-20}")
+    private String nameLengthRange;
+
+    @Value("${item.seed.parallelism:0}")
+    private int parallelism;
+
     /**
      * 테스트용 데이터 추가
+     * item.seed.count 가 있으면 그 수만큼 대량 생성 (부하 테스트용)
      */
     @PostConstruct
     public void init() {
+        //WAL 로 복구된 데이터가 있으면 추가하지 않음
+        if (!itemRepository.findSlice(null, 1).getItems().isEmpty()) {
+            return;
+        }
+        if (seedCount > 0) {
+            seed();
+            return;
+        }
         itemRepository.save(new Item("itemA", 10000, 10));
         itemRepository.save(new Item("itemB", 20000, 20));
     }
 
-}
\ No newline at end of file
+    private void seed() {
+        ItemDataSeeder seeder = new ItemDataSeeder(itemRepository);
+        seeder.setSeed(seed);
+        seeder.setDistribution(distribution);
+        int[] price = parseRange(priceRange);
+        seeder.setMinPrice(price[0]);
+        seeder.setMaxPrice(price[1]);
+        int[] quantity = parseRange(quantityRange);
+        seeder.setMinQuantity(quantity[0]);
+        seeder.setMaxQuantity(quantity[1]);
+        int[] nameLength = parseRange(nameLengthRange);
+        seeder.setMinNameLength(nameLength[0]);
+        seeder.setMaxNameLength(nameLength[1]);
+        if (parallelism > 0) {
+            seeder.setParallelism(parallelism);
+        }
+
+        long start = System.nanoTime();
+        int saved = seeder.seed(seedCount);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("테스트 데이터 생성 완료 count={}, elapsed={}ms, {} items/s",
+                saved, elapsedMs, elapsedMs == 0 ? saved : saved * 1000L / elapsedMs);
+    }
+
+    /* "min-max" 형식 */
+    private static int[] parseRange(String range) {
+        String[] values = range.split("-");
+        if (values.length != 2) {
+            throw new IllegalArgumentException("범위는 min-max 형식이어야 합니다. value=" + range);
+        }
+        return new int[]{Integer.parseInt(values[0].trim()), Integer.parseInt(values[1].trim())};
+    }
+}
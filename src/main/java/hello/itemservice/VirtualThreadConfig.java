@@ -0,0 +1,57 @@
+package hello.itemservice;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "item.server.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+/**
+ * 요청을 가상 스레드에서 처리 (item.server.virtual-threads=true 일 때만, Java 21 이상에서 실행)
+ * 톰캣 스레드 풀(server.tomcat.threads.max, 기본 200) 대신 요청마다 가상 스레드 하나
+ *   ㄴ WAL fsync 처럼 기다리는 시간이 긴 요청이 몰려도 스레드 수에 막히지 않는다.
+ *   ㄴ 동시 요청 수 제한은 server.tomcat.max-connections (기본 8192)
+ * MVC 비동기 처리(StreamingResponseBody 내보내기 등)도 같은 가상 스레드 executor 에서
+ *   ㄴ ExecutorService 빈이 있으면 스프링 부트 기본 applicationTaskExecutor 는 만들어지지 않음
+ *
+ * 컴파일은 Java 11 그대로 -> 리플렉션으로 찾고, 없으면 (Java 21 미만) 시작할 때 실패
+ * 실행: ./gradlew bootRun -PruntimeJava=21 --args='--item.server.virtual-threads=true'
+ * */
+
+    /* 컨텍스트가 닫힐 때 shutdown (톰캣은 외부에서 받은 executor 를 종료하지 않음) */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        log.info("요청을 가상 스레드에서 처리합니다. java={}", Runtime.version());
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor()));
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서만 사용할 수 있습니다. 현재 java=" + Runtime.version(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 executor 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package hello.itemservice;
+
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.ItemValidatorAdapter;
+import hello.itemservice.web.validation.generated.GeneratedValidatorRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+/**
+ * MVC 공통 설정
+ * 메시지 코드 생성기: 바인딩/검증 오류마다 코드 배열을 새로 만들지 않도록 캐시 사용
+ * @Validated 검증기: 스프링 부트 기본 검증기(LocalValidatorFactoryBean)를 ItemValidatorAdapter 로 감싼다. (@TotalPriceMin 오류 인자)
+ *   ㄴ item.validation.generated=true 이면 생성된 검증기가 있는 클래스는 생성된 검증기로 (없으면 위 검증기로)
+ * */
+
+    private final javax.validation.Validator beanValidator;
+    private final boolean generatedValidation;
+
+    public WebConfig(javax.validation.Validator beanValidator,
+                     @Value("${item.validation.generated:false}") boolean generatedValidation) {
+        this.beanValidator = beanValidator;
+        this.generatedValidation = generatedValidation;
+    }
+
+    @Bean
+    public CachingMessageCodesResolver messageCodesResolver() {
+        return new CachingMessageCodesResolver();
+    }
+
+    @Override
+    public MessageCodesResolver getMessageCodesResolver() {
+        return messageCodesResolver();
+    }
+
+    @Override
+    public Validator getValidator() {
+        ItemValidatorAdapter validator = new ItemValidatorAdapter(beanValidator);
+        return generatedValidation ? new GeneratedValidatorRegistry(validator) : validator;
+    }
+}
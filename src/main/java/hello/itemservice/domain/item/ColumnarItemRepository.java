@@ -0,0 +1,258 @@
+package hello.itemservice.domain.item;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ColumnarItemRepository implements ItemRepository {
+/**
+ * 컬럼형(기본형 배열) item 저장소
+ * item 객체, 박싱된 Long/Integer, 맵 엔트리 대신 컬럼별 배열에 저장해서 item 당 힙 사용량을 줄인다.
+ *
+ * id 는 1 부터 순서대로 발급되므로 배열 위치(row) = id - 1 (id 배열이 따로 필요 없음)
+ * 이름은 UTF-8 바이트로 하나의 byte[] 에 이어 붙이고, item 마다 시작 위치/길이만 보관한다.
+ *   ㄴ 이름을 수정하면 이전 바이트는 그대로 남는다. (수정이 드문 상품 목록 기준)
+ * 조회시에는 매번 새 Item 을 만들어 반환한다. (반환된 Item 을 수정해도 저장소에는 반영되지 않음 -> update 사용)
+ * */
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NULL_VALUE = Integer.MIN_VALUE; //Integer null 표현
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int[] versions = new int[INITIAL_CAPACITY];
+    private int[] nameOffsets = new int[INITIAL_CAPACITY];
+    private int[] nameLengths = new int[INITIAL_CAPACITY];
+    private byte[] names = new byte[INITIAL_CAPACITY * 16];
+    private int namesLength;
+
+    @Override
+    public Item save(Item item) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(size + 1);
+            int row = size++;
+            write(row, item);
+            versions[row] = 0;
+            item.setId(toId(row));
+            item.setVersion(0);
+            return item;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(size + items.size());
+            for (Item item : items) {
+                int row = size++;
+                write(row, item);
+                versions[row] = 0;
+                item.setId(toId(row));
+                item.setVersion(0);
+            }
+            return items;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Item findById(Long id) {
+        lock.readLock().lock();
+        try {
+            int row = toRow(id);
+            return row < 0 ? null : read(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Item> items = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                items.add(read(row));
+            }
+            return items;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ItemSlice findSlice(Long afterId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        lock.readLock().lock();
+        try {
+            //id = row + 1 이므로 afterId 다음 item 의 row 는 afterId
+            long start = afterId == null ? 0 : Math.max(afterId, 0);
+            List<Item> items = new ArrayList<>(pageSize);
+            int row = (int) Math.min(start, size);
+            for (; row < size && items.size() < pageSize; row++) {
+                items.add(read(row));
+            }
+            return new ItemSlice(items, row < size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        update(itemId, null, updateParam);
+    }
+
+    /* expectedVersion 이 null 이면 버전 확인 없이 수정 */
+    @Override
+    public boolean update(Long itemId, Integer expectedVersion, Item updateParam) {
+        lock.writeLock().lock();
+        try {
+            int row = toRow(itemId);
+            if (row < 0 || (expectedVersion != null && versions[row] != expectedVersion)) {
+                return false;
+            }
+            write(row, updateParam);
+            versions[row]++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 보조 인덱스 없이 int[] 를 그대로 훑는다. (객체 참조를 따라가지 않아 캐시 친화적)
+     * */
+    @Override
+    public List<Item> findByPriceBetween(int minPrice, int maxPrice) {
+        lock.readLock().lock();
+        try {
+            List<Item> items = scan(prices, minPrice, maxPrice);
+            items.sort(Comparator.comparing(Item::getPrice).thenComparing(Item::getId));
+            return items;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findByQuantityBetween(int minQuantity, int maxQuantity) {
+        lock.readLock().lock();
+        try {
+            List<Item> items = scan(quantities, minQuantity, maxQuantity);
+            items.sort(Comparator.comparing(Item::getQuantity).thenComparing(Item::getId));
+            return items;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            prices = new int[INITIAL_CAPACITY];
+            quantities = new int[INITIAL_CAPACITY];
+            versions = new int[INITIAL_CAPACITY];
+            nameOffsets = new int[INITIAL_CAPACITY];
+            nameLengths = new int[INITIAL_CAPACITY];
+            names = new byte[INITIAL_CAPACITY * 16];
+            namesLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Item> scan(int[] column, int min, int max) {
+        List<Item> items = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            int value = column[row];
+            if (value != NULL_VALUE && value >= min && value <= max) {
+                items.add(read(row));
+            }
+        }
+        return items;
+    }
+
+    private Item read(int row) {
+        Item item = new Item(readName(row), toInteger(prices[row]), toInteger(quantities[row]));
+        item.setId(toId(row));
+        item.setVersion(versions[row]);
+        return item;
+    }
+
+    private void write(int row, Item item) {
+        prices[row] = toInt(item.getPrice());
+        quantities[row] = toInt(item.getQuantity());
+        writeName(row, item.getItemName());
+    }
+
+    private String readName(int row) {
+        int length = nameLengths[row];
+        if (length < 0) {
+            return null;
+        }
+        return new String(names, nameOffsets[row], length, StandardCharsets.UTF_8);
+    }
+
+    private void writeName(int row, String name) {
+        if (name == null) {
+            nameOffsets[row] = 0;
+            nameLengths[row] = -1;
+            return;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (namesLength + bytes.length > names.length) {
+            names = Arrays.copyOf(names, Math.max(names.length * 2, namesLength + bytes.length));
+        }
+        System.arraycopy(bytes, 0, names, namesLength, bytes.length);
+        nameOffsets[row] = namesLength;
+        nameLengths[row] = bytes.length;
+        namesLength += bytes.length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= prices.length) {
+            return;
+        }
+        int newCapacity = Math.max(prices.length * 2, capacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+        quantities = Arrays.copyOf(quantities, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+        nameOffsets = Arrays.copyOf(nameOffsets, newCapacity);
+        nameLengths = Arrays.copyOf(nameLengths, newCapacity);
+    }
+
+    /* 없는 id 면 -1 */
+    private int toRow(Long id) {
+        if (id == null || id < 1 || id > size) {
+            return -1;
+        }
+        return (int) (id - 1);
+    }
+
+    private static long toId(int row) {
+        return row + 1L;
+    }
+
+    private static int toInt(Integer value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private static Integer toInteger(int value) {
+        return value == NULL_VALUE ? null : value;
+    }
+}
@@ -10,7 +10,8 @@ import javax.validation.constraints.NotNull;
 /* object error (필드의 결과로 오류를 잡아내는) 생성 법 (@ScriptAssert)
 *  ++ 실제 사용해보면 제약이 많고 복잡함. 고로 오브젝트 오류 부분은 직접 자바 코드로 작성하는 것이 안전함.
 * */
-public class Item {
+@TotalPriceMin(groups = {SaveCheck.class, UpdateCheck.class}) //v3 (v2 는 itemValidator 에서 같은 계산)
+public class Item implements PriceQuantity {
 
 //    @NotNull(groups = UpdateCheck.class)
     private Long id;
@@ -24,6 +25,9 @@ public class Item {
    // @Max(value = 9999, groups = {SaveCheck.class})
     private Integer quantity;
 
+    //낙관적 락 용 버전 (저장시 0, 수정할 때마다 +1)
+    private Integer version;
+
     public Item() {
     }
 
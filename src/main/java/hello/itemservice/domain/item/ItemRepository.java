@@ -1,41 +1,43 @@
 package hello.itemservice.domain.item;
 
-import org.springframework.stereotype.Repository;
-
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
-@Repository
-public class ItemRepository {
+public interface ItemRepository {
+/**
+ * item 저장소
+ * 구현체는 item.repository.type 설정으로 선택 (memory: 기본, columnar: 기본형 배열 저장, sharded: 샤드 분할)
+ *   ㄴ ItemRepositoryConfig 참고
+ * */
+
+    int MAX_PAGE_SIZE = 100;
+
+    Item save(Item item);
+
+    /* 여러 item 을 한번에 저장 (id 는 items 순서대로 발급) */
+    List<Item> saveAll(List<Item> items);
+
+    Item findById(Long id);
 
-    private static final Map<Long, Item> store = new HashMap<>(); //static
-    private static long sequence = 0L; //static
+    /* 읽기 전용 리스트 (구현체에 따라 여러 요청이 같은 리스트를 공유) */
+    List<Item> findAll();
 
-    public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
-        return item;
-    }
+    /* afterId 보다 큰 id 를 id 순으로 최대 limit 개 (afterId 가 null 이면 처음부터) */
+    ItemSlice findSlice(Long afterId, int limit);
 
-    public Item findById(Long id) {
-        return store.get(id);
-    }
+    /* min, max 포함, 가격 순 */
+    List<Item> findByPriceBetween(int minPrice, int maxPrice);
 
-    public List<Item> findAll() {
-        return new ArrayList<>(store.values());
-    }
+    /* min, max 포함, 수량 순 */
+    List<Item> findByQuantityBetween(int minQuantity, int maxQuantity);
 
-    public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
-    }
+    void update(Long itemId, Item updateParam);
 
-    public void clearStore() {
-        store.clear();
-    }
+    /**
+     * 낙관적 락 수정 (compare-and-set)
+     * 저장된 version 이 expectedVersion 과 같을 때만 수정하고 version 을 올린다.
+     * @return 수정했으면 true, 다른 요청이 먼저 수정했거나 item 이 없으면 false (기다리지 않음)
+     * */
+    boolean update(Long itemId, Integer expectedVersion, Item updateParam);
 
+    void clearStore();
 }
@@ -0,0 +1,27 @@
+package hello.itemservice.domain.item;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ItemSlice {
+/**
+ * 커서 페이징 결과
+ * nextCursor: 다음 페이지 요청시 after 로 넘길 id (다음 페이지가 없으면 null)
+ * */
+    private final List<Item> items;
+    private final boolean hasNext;
+
+    public ItemSlice(List<Item> items, boolean hasNext) {
+        this.items = items;
+        this.hasNext = hasNext;
+    }
+
+    public Long getNextCursor() {
+        if (!hasNext || items.isEmpty()) {
+            return null;
+        }
+        return items.get(items.size() - 1).getId();
+    }
+}
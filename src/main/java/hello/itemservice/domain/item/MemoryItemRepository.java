@@ -0,0 +1,229 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class MemoryItemRepository implements ItemRepository {
+
+    /* 동시 요청 대비 (HashMap, long 은 멀티 스레드 환경에서 유실/중복 id 발생)
+     * ConcurrentSkipListMap: 전역 락 없이 동기화 + id 순으로 정렬 (커서 페이징에 사용)
+     * AtomicLong: id 발급을 원자적으로 처리
+     *
+     * 저장된 Item 은 수정하지 않는다. (update 는 새 Item 으로 교체)
+     *   ㄴ 조회하는 쪽에서 수정 중인 item(이름만 바뀐 상태 등)을 볼 일이 없다.
+     * */
+    private static final ConcurrentNavigableMap<Long, Item> store = new ConcurrentSkipListMap<>(); //static
+    private static final AtomicLong sequence = new AtomicLong(); //static
+
+    /* 전체 목록(findAll) 조회용 스냅샷 (읽기 전용 리스트를 여러 요청이 같이 사용)
+     * 저장/수정이 일어나면 version 이 올라가고, 다음 조회에서 한번만 다시 만든다.
+     * */
+    private static final AtomicLong version = new AtomicLong(); //static
+    private static volatile Snapshot snapshot = new Snapshot(0, Collections.emptyList()); //static
+
+    /* 가격, 수량 범위 조회용 보조 인덱스 (save, update 시 같이 갱신) */
+    private static final RangeIndex priceIndex = new RangeIndex(); //static
+    private static final RangeIndex quantityIndex = new RangeIndex(); //static
+
+    @Override
+    public Item save(Item item) {
+        item.setId(sequence.incrementAndGet());
+        item.setVersion(0);
+        //넘겨받은 item 은 호출한 쪽에서 계속 쓸 수 있으므로 복사해서 저장
+        store.put(item.getId(), copyOf(item.getId(), item));
+        priceIndex.add(item.getPrice(), item.getId());
+        quantityIndex.add(item.getQuantity(), item.getId());
+        version.incrementAndGet();
+        return item;
+    }
+
+    /**
+     * id 를 한번에 items.size() 개 발급받고, 스냅샷 version 도 한번만 올린다.
+     * */
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        long id = sequence.getAndAdd(items.size());
+        for (Item item : items) {
+            item.setId(++id);
+            item.setVersion(0);
+            store.put(id, copyOf(id, item));
+            priceIndex.add(item.getPrice(), id);
+            quantityIndex.add(item.getQuantity(), id);
+        }
+        version.incrementAndGet();
+        return items;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return currentSnapshot();
+    }
+
+    /**
+     * 커서(keyset) 페이징
+     * afterId 보다 큰 id 를 가진 item 을 id 순으로 최대 limit 개 조회 (afterId 가 null 이면 처음부터)
+     * 스냅샷을 쓰지 않고 store.tailMap 에서 필요한 만큼만 읽는다. -> O(log n + limit)
+     *   ㄴ 저장/수정이 계속 들어와도 페이지마다 전체를 다시 복사하지 않음
+     * */
+    @Override
+    public ItemSlice findSlice(Long afterId, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        ConcurrentNavigableMap<Long, Item> range = afterId == null ? store : store.tailMap(afterId, false);
+
+        List<Item> items = new ArrayList<>(size);
+        Iterator<Item> iterator = range.values().iterator();
+        while (iterator.hasNext() && items.size() < size) {
+            items.add(iterator.next());
+        }
+        return new ItemSlice(items, iterator.hasNext());
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        update(itemId, null, updateParam);
+    }
+
+    /* expectedVersion 이 null 이면 버전 확인 없이 수정 */
+    @Override
+    public boolean update(Long itemId, Integer expectedVersion, Item updateParam) {
+        //computeIfPresent -> 버전 비교 ~ 교체가 원자적으로 실행됨 (다른 요청이 먼저 바꾸면 다시 비교)
+        //  ㄴ 함수가 여러 번 실행될 수 있으므로 안에서는 새 item 만 만든다. (인덱스 갱신은 교체 후)
+        Item[] replaced = new Item[1];
+        store.computeIfPresent(itemId, (id, findItem) -> {
+            if (expectedVersion != null && !expectedVersion.equals(findItem.getVersion())) {
+                replaced[0] = null;
+                return findItem;
+            }
+            Item updatedItem = copyOf(id, updateParam);
+            updatedItem.setVersion(findItem.getVersion() + 1);
+            replaced[0] = findItem;
+            return updatedItem;
+        });
+        Item findItem = replaced[0];
+        if (findItem == null) {
+            return false;
+        }
+        reindex(priceIndex, itemId, findItem.getPrice(), updateParam.getPrice(), Item::getPrice);
+        reindex(quantityIndex, itemId, findItem.getQuantity(), updateParam.getQuantity(), Item::getQuantity);
+        version.incrementAndGet();
+        return true;
+    }
+
+    /* 수정 전/후 값의 인덱스 항목을 현재 저장된 값에 맞춘다. */
+    private static void reindex(RangeIndex index, Long id, Integer oldValue, Integer newValue, Function<Item, Integer> getter) {
+        if (Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        syncIndex(index, id, newValue, getter);
+        syncIndex(index, id, oldValue, getter);
+    }
+
+    /**
+     * (value, id) 항목은 현재 저장된 item 의 값이 value 일 때만 있어야 한다.
+     * 넣거나 지운 뒤 다시 확인 -> 그 사이 다른 수정이 값을 바꿨으면 한번 더 맞춘다.
+     *   ㄴ 값을 바꾼 쪽도 교체 후에 같은 확인을 하므로 마지막에 확인한 쪽의 결과가 남는다. (락 x)
+     * */
+    private static void syncIndex(RangeIndex index, Long id, Integer value, Function<Item, Integer> getter) {
+        boolean indexed;
+        do {
+            Item current = store.get(id);
+            indexed = current != null && Objects.equals(getter.apply(current), value);
+            if (indexed) {
+                index.add(value, id);
+            } else {
+                index.remove(value, id);
+            }
+            current = store.get(id);
+        } while (indexed != (current != null && Objects.equals(getter.apply(current), value)));
+    }
+
+    /**
+     * 가격 범위 조회 (minPrice, maxPrice 포함, 가격 순)
+     * */
+    @Override
+    public List<Item> findByPriceBetween(int minPrice, int maxPrice) {
+        List<Item> items = new ArrayList<>();
+        for (Long id : priceIndex.findIds(minPrice, maxPrice)) {
+            Item item = store.get(id);
+            //수정 중인 item 은 인덱스와 값이 잠깐 다를 수 있으므로 한번 더 확인
+            if (item != null && inRange(item.getPrice(), minPrice, maxPrice)) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 수량 범위 조회 (minQuantity, maxQuantity 포함, 수량 순)
+     * */
+    @Override
+    public List<Item> findByQuantityBetween(int minQuantity, int maxQuantity) {
+        List<Item> items = new ArrayList<>();
+        for (Long id : quantityIndex.findIds(minQuantity, maxQuantity)) {
+            Item item = store.get(id);
+            if (item != null && inRange(item.getQuantity(), minQuantity, maxQuantity)) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private static boolean inRange(Integer value, int min, int max) {
+        return value != null && value >= min && value <= max;
+    }
+
+    /**
+     * 최신 스냅샷 반환 (락 x)
+     * 스냅샷을 만드는 동안 저장/수정이 일어나도, 만들기 전에 읽은 version 으로 표시해 두므로
+     * 다음 조회에서 오래된 스냅샷으로 판단되어 다시 만들어진다.
+     * */
+    private static List<Item> currentSnapshot() {
+        Snapshot current = snapshot;
+        long currentVersion = version.get();
+        if (current.version == currentVersion) {
+            return current.items;
+        }
+        List<Item> items = Collections.unmodifiableList(new ArrayList<>(store.values()));
+        snapshot = new Snapshot(currentVersion, items);
+        return items;
+    }
+
+    private static Item copyOf(Long id, Item source) {
+        Item item = new Item(source.getItemName(), source.getPrice(), source.getQuantity());
+        item.setId(id);
+        item.setVersion(source.getVersion());
+        return item;
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final List<Item> items;
+
+        Snapshot(long version, List<Item> items) {
+            this.version = version;
+            this.items = items;
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        store.clear();
+        sequence.set(0); //id 를 처음부터 다시 발급 (로그 재생시 같은 id 가 나오도록)
+        priceIndex.clear();
+        quantityIndex.clear();
+        version.incrementAndGet();
+    }
+
+}
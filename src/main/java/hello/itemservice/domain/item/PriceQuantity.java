@@ -0,0 +1,12 @@
+package hello.itemservice.domain.item;
+
+public interface PriceQuantity {
+/**
+ * 가격, 수량을 가진 객체 (@TotalPriceMin 검증 대상)
+ * Item, ItemSaveForm, ItemUpdateForm (lombok getter 로 구현)
+ * */
+
+    Integer getPrice();
+
+    Integer getQuantity();
+}
@@ -0,0 +1,72 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+class RangeIndex {
+/**
+ * int 값(가격, 수량) 기준 정렬 보조 인덱스
+ * (값, id) 쌍을 정렬해서 보관 -> 범위 조회시 O(log n + k)
+ * null 값은 인덱스에 넣지 않는다.
+ * */
+
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+
+    void add(Integer value, Long id) {
+        if (value != null) {
+            entries.add(new Entry(value, id));
+        }
+    }
+
+    void remove(Integer value, Long id) {
+        if (value != null) {
+            entries.remove(new Entry(value, id));
+        }
+    }
+
+    /* min, max 포함 */
+    List<Long> findIds(int min, int max) {
+        List<Long> ids = new ArrayList<>();
+        if (min > max) {
+            return ids;
+        }
+        for (Entry entry : entries.subSet(new Entry(min, Long.MIN_VALUE), true, new Entry(max, Long.MAX_VALUE), true)) {
+            ids.add(entry.id);
+        }
+        return ids;
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final int value;
+        private final long id;
+
+        Entry(int value, long id) {
+            this.value = value;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            int result = Integer.compare(value, o.value);
+            return result != 0 ? result : Long.compare(id, o.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry entry = (Entry) o;
+            return value == entry.value && id == entry.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * value + Long.hashCode(id);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ShardedItemRepository implements ItemRepository {
+/**
+ * 샤드(N 개)로 나눈 item 저장소
+ * 샤드마다 자기 락을 가진다. 전체가 같이 쓰는 것은 id 시퀀스(AtomicLong) 하나뿐
+ *
+ * id 는 전체 시퀀스에서 발급 -> id % N 으로 샤드를 고른다. (연속된 id 가 샤드에 고르게 나뉨)
+ *   ㄴ 샤드별 시퀀스였을 때는 늦게 저장한 샤드의 작은 id 가 이미 지나간 커서 뒤로 들어가 페이징에서 빠졌다.
+ *   ㄴ 지금은 MemoryItemRepository 와 같다. (id 는 발급 순서대로 커짐, 발급 ~ 저장 사이에만 순서가 바뀔 수 있음)
+ * 목록/범위 조회는 모든 샤드에서 읽어서 정렬 순서대로 합친다.
+ *
+ * 저장 순서가 스레드에 따라 달라지므로 WAL 재생(같은 id 복원)은 지원하지 않는다.
+ * */
+
+    private static final Comparator<Item> ID_ORDER = Comparator.comparing(Item::getId);
+    private static final Comparator<Item> PRICE_ORDER = Comparator.comparing(Item::getPrice).thenComparing(Item::getId);
+    private static final Comparator<Item> QUANTITY_ORDER = Comparator.comparing(Item::getQuantity).thenComparing(Item::getId);
+
+    private final Shard[] shards;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ShardedItemRepository(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다. shardCount=" + shardCount);
+        }
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public Item save(Item item) {
+        item.setId(sequence.incrementAndGet());
+        shardOf(item.getId()).save(List.of(item));
+        return item;
+    }
+
+    /**
+     * id 를 한번에 items.size() 개 발급받고, 샤드별로 묶어서 샤드마다 락을 한번만 잡는다.
+     * */
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        List<List<Item>> groups = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            groups.add(new ArrayList<>());
+        }
+        long id = sequence.getAndAdd(items.size());
+        for (Item item : items) {
+            item.setId(++id);
+            groups.get(shardIndex(id)).add(item);
+        }
+        for (int i = 0; i < shards.length; i++) {
+            if (!groups.get(i).isEmpty()) {
+                shards[i].save(groups.get(i));
+            }
+        }
+        return items;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        Shard shard = shardOf(id);
+        return shard == null ? null : shard.findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        List<List<Item>> results = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            results.add(shard.findAfter(null, Integer.MAX_VALUE));
+        }
+        return merge(results, ID_ORDER, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 샤드마다 afterId 이후 최대 limit + 1 개를 읽고 id 순으로 합친다.
+     * */
+    @Override
+    public ItemSlice findSlice(Long afterId, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<List<Item>> results = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            results.add(shard.findAfter(afterId, size + 1));
+        }
+        List<Item> items = merge(results, ID_ORDER, size + 1);
+        boolean hasNext = items.size() > size;
+        return new ItemSlice(hasNext ? items.subList(0, size) : items, hasNext);
+    }
+
+    @Override
+    public List<Item> findByPriceBetween(int minPrice, int maxPrice) {
+        List<List<Item>> results = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            results.add(shard.findBetween(shard.priceIndex, minPrice, maxPrice));
+        }
+        return merge(results, PRICE_ORDER, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Item> findByQuantityBetween(int minQuantity, int maxQuantity) {
+        List<List<Item>> results = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            results.add(shard.findBetween(shard.quantityIndex, minQuantity, maxQuantity));
+        }
+        return merge(results, QUANTITY_ORDER, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        update(itemId, null, updateParam);
+    }
+
+    /* expectedVersion 이 null 이면 버전 확인 없이 수정 */
+    @Override
+    public boolean update(Long itemId, Integer expectedVersion, Item updateParam) {
+        Shard shard = shardOf(itemId);
+        return shard != null && shard.update(itemId, expectedVersion, updateParam);
+    }
+
+    @Override
+    public void clearStore() {
+        for (Shard shard : shards) {
+            shard.clear();
+        }
+        sequence.set(0);
+    }
+
+    private int shardIndex(long id) {
+        return (int) (id % shards.length);
+    }
+
+    private Shard shardOf(Long id) {
+        if (id == null || id < 1) {
+            return null;
+        }
+        return shards[shardIndex(id)];
+    }
+
+    /**
+     * 샤드별로 정렬된 결과를 하나로 합친다. (k-way merge, 최대 limit 개)
+     * */
+    private static List<Item> merge(List<List<Item>> sortedLists, Comparator<Item> order, int limit) {
+        int total = 0;
+        for (List<Item> list : sortedLists) {
+            total += list.size();
+        }
+        List<Item> merged = new ArrayList<>(Math.min(total, limit));
+        int[] positions = new int[sortedLists.size()];
+        while (merged.size() < limit) {
+            int next = -1;
+            for (int i = 0; i < sortedLists.size(); i++) {
+                List<Item> list = sortedLists.get(i);
+                if (positions[i] < list.size()
+                        && (next < 0 || order.compare(list.get(positions[i]), sortedLists.get(next).get(positions[next])) < 0)) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            merged.add(sortedLists.get(next).get(positions[next]++));
+        }
+        return merged;
+    }
+
+    private static Item copyOf(Long id, Item source, Integer version) {
+        Item item = new Item(source.getItemName(), source.getPrice(), source.getQuantity());
+        item.setId(id);
+        item.setVersion(version);
+        return item;
+    }
+
+    /**
+     * 샤드 하나 (샤드 안에서는 락 하나로 단순하게 처리)
+     * 저장된 Item 은 수정하지 않는다. (update 는 새 Item 으로 교체)
+     * */
+    private final class Shard {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeMap<Long, Item> store = new TreeMap<>();
+        private final RangeIndex priceIndex = new RangeIndex();
+        private final RangeIndex quantityIndex = new RangeIndex();
+
+        /* id 는 발급된 상태로 넘어온다. */
+        void save(List<Item> items) {
+            lock.writeLock().lock();
+            try {
+                for (Item item : items) {
+                    long id = item.getId();
+                    item.setVersion(0);
+                    store.put(id, copyOf(id, item, 0));
+                    priceIndex.add(item.getPrice(), id);
+                    quantityIndex.add(item.getQuantity(), id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Item findById(Long id) {
+            lock.readLock().lock();
+            try {
+                return store.get(id);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Item> findAfter(Long afterId, int limit) {
+            lock.readLock().lock();
+            try {
+                Map<Long, Item> range = afterId == null ? store : store.tailMap(afterId, false);
+                List<Item> items = new ArrayList<>(Math.min(store.size(), limit));
+                for (Item item : range.values()) {
+                    if (items.size() >= limit) {
+                        break;
+                    }
+                    items.add(item);
+                }
+                return items;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Item> findBetween(RangeIndex index, int min, int max) {
+            lock.readLock().lock();
+            try {
+                List<Long> ids = index.findIds(min, max);
+                List<Item> items = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    items.add(store.get(id));
+                }
+                return items;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean update(Long itemId, Integer expectedVersion, Item updateParam) {
+            lock.writeLock().lock();
+            try {
+                Item findItem = store.get(itemId);
+                if (findItem == null || (expectedVersion != null && !expectedVersion.equals(findItem.getVersion()))) {
+                    return false;
+                }
+                Item updatedItem = copyOf(itemId, updateParam, findItem.getVersion() + 1);
+                store.put(itemId, updatedItem);
+                priceIndex.remove(findItem.getPrice(), itemId);
+                quantityIndex.remove(findItem.getQuantity(), itemId);
+                priceIndex.add(updatedItem.getPrice(), itemId);
+                quantityIndex.add(updatedItem.getQuantity(), itemId);
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void clear() {
+            lock.writeLock().lock();
+            try {
+                store.clear();
+                priceIndex.clear();
+                quantityIndex.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
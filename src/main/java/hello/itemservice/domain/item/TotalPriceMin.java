@@ -0,0 +1,29 @@
+package hello.itemservice.domain.item;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 가격 * 수량의 합 최소값 (클래스 레벨 제약 -> 필드 제약과 같은 검증에서 같이 확인)
+ * 가격이나 수량이 null 이면 검사하지 않는다. (@NotNull 에서 처리)
+ * 오류 코드: TotalPriceMin (객체 오류), 메시지의 {total} = 현재 가격 * 수량
+ * */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = TotalPriceMinValidator.class)
+public @interface TotalPriceMin {
+
+    long value() default 10000;
+
+    String message() default "가격 * 수량의 합은 {value}원 이상이어야 합니다. 현재 값 = {total}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
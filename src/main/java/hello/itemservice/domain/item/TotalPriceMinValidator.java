@@ -0,0 +1,42 @@
+package hello.itemservice.domain.item;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class TotalPriceMinValidator implements ConstraintValidator<TotalPriceMin, PriceQuantity> {
+/**
+ * @TotalPriceMin 검증
+ * 가격 * 수량은 long 으로 계산한다.
+ *   ㄴ int 로 곱하면 1,000,000 * 9,999 처럼 허용되는 값에서도 넘쳐서 음수가 됨 (-> 잘못된 오류)
+ *   ㄴ Integer 최대값끼리 곱해도 long 범위 안
+ * 실패하면 메시지 파라미터 {total}, 오류 인자 [최소 금액, 현재 총액] (dynamic payload -> ItemValidatorAdapter 가 사용)
+ * */
+
+    private long min;
+
+    @Override
+    public void initialize(TotalPriceMin constraintAnnotation) {
+        min = constraintAnnotation.value();
+    }
+
+    @Override
+    public boolean isValid(PriceQuantity value, ConstraintValidatorContext context) {
+        if (value == null || value.getPrice() == null || value.getQuantity() == null) {
+            return true;
+        }
+        long total = totalPrice(value.getPrice(), value.getQuantity());
+        if (total >= min) {
+            return true;
+        }
+        context.unwrap(HibernateConstraintValidatorContext.class)
+                .addMessageParameter("total", total)
+                .withDynamicPayload(new Object[]{min, total});
+        return false;
+    }
+
+    public static long totalPrice(int price, int quantity) {
+        return (long) price * quantity;
+    }
+}
@@ -0,0 +1,11 @@
+package hello.itemservice.domain.item.wal;
+
+public enum FsyncPolicy {
+/**
+ * 로그를 디스크에 강제로 내려쓰는(fsync) 시점
+ * ALWAYS: 기록할 때마다 (가장 안전, 가장 느림)
+ * INTERVAL: 일정 시간마다 백그라운드에서
+ * BATCH: 기록이 batchSize 개 쌓일 때마다 (덜 쌓여도 fsyncIntervalMs 가 지나면)
+ * */
+    ALWAYS, INTERVAL, BATCH
+}
@@ -0,0 +1,345 @@
+package hello.itemservice.domain.item.wal;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+@Slf4j
+public class ItemWriteAheadLog implements Closeable {
+/**
+ * item 저장/수정 내역을 파일 끝에 순서대로 이어 쓰는 로그 (append only)
+ *
+ * 레코드 형식: [length(int)][crc32(int)][type(byte)][id(long)][flags(byte)][price(int)][quantity(int)][nameLength(int)][name(UTF-8)]
+ *   ㄴ length, crc32 는 type 부터 끝까지에 대한 값
+ *   ㄴ 마지막 레코드가 쓰다가 끊긴 경우 (길이 부족, crc 불일치) 재생시 그 앞까지만 사용하고 파일을 잘라낸다.
+ *
+ * append 는 호출하는 쪽(WalItemRepository)에서 순서를 보장해야 한다. (로그 순서 = 재생 순서)
+ * 저장소에 반영하기 전에 기록한다. -> SAVE 레코드의 id 는 로그가 발급 (마지막 SAVE id + 1, 저장소의 id 발급 순서와 같음)
+ * 기록 중 실패하면 쓰던 레코드를 잘라내고 예외 (뒤에 이어 쓴 레코드가 재생에서 버려지지 않도록)
+ * */
+
+    static final byte SAVE = 1;
+    static final byte UPDATE = 2;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int FIXED_BODY_SIZE = 1 + 8 + 1 + 4 + 4 + 4;
+    private static final int MAX_RECORD_SIZE = 1024 * 1024;
+    private static final byte PRICE_NULL = 1;
+    private static final byte QUANTITY_NULL = 2;
+
+    private final FileChannel channel;
+    private final FsyncPolicy fsyncPolicy;
+    private final int batchSize;
+    private final CRC32 crc = new CRC32();
+    private final ScheduledExecutorService flusher;
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private int unsynced;
+    private volatile boolean dirty;
+    private long lastSavedId;
+
+    public ItemWriteAheadLog(Path path, FsyncPolicy fsyncPolicy, long fsyncIntervalMs, int batchSize) {
+        this.fsyncPolicy = fsyncPolicy;
+        this.batchSize = Math.max(batchSize, 1);
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.channel.position(channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 파일을 열 수 없습니다. path=" + path, e);
+        }
+
+        //BATCH 도 batchSize 가 쌓이지 않으면 fsyncIntervalMs 안에는 내려쓴다.
+        if (fsyncPolicy == FsyncPolicy.INTERVAL || fsyncPolicy == FsyncPolicy.BATCH) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "item-wal-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::syncIfDirty, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    /**
+     * 로그를 처음부터 읽어서 target 에 다시 적용한다. (target 은 비어 있어야 함)
+     * 재생이 끝나면 이후 기록은 마지막 정상 레코드 뒤에 이어 쓴다.
+     * @return 재생한 레코드 수
+     * */
+    public synchronized int replay(ItemRepository target) {
+        try {
+            long position = 0;
+            long size = channel.size();
+            int count = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (position + HEADER_SIZE <= size) {
+                header.clear();
+                readFully(header, position);
+                header.flip();
+                int length = header.getInt();
+                int checksum = header.getInt();
+                if (length < FIXED_BODY_SIZE || length > MAX_RECORD_SIZE || position + HEADER_SIZE + length > size) {
+                    break;
+                }
+
+                ByteBuffer body = ByteBuffer.allocate(length);
+                readFully(body, position + HEADER_SIZE);
+                crc.reset();
+                crc.update(body.array(), 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                body.flip();
+                apply(body, target);
+                position += HEADER_SIZE + length;
+                count++;
+            }
+
+            if (position < size) {
+                log.warn("WAL 끝부분이 손상되어 잘라냅니다. validBytes={}, fileSize={}", position, size);
+                channel.truncate(position);
+            }
+            channel.position(position);
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 재생 실패", e);
+        }
+    }
+
+    /**
+     * @return 로그가 발급한 id (저장소에서 같은 id 가 나와야 한다)
+     * */
+    public synchronized long appendSave(Item item) {
+        long position = position();
+        long id = lastSavedId + 1;
+        try {
+            append(SAVE, id, item);
+            afterAppend(1);
+        } catch (RuntimeException e) {
+            rollback(position);
+            throw e;
+        }
+        lastSavedId = id;
+        return id;
+    }
+
+    /**
+     * 여러 레코드를 이어 쓰고 fsync 정책은 마지막에 한번만 적용 (ALWAYS 여도 fsync 1회)
+     * 중간에 실패하면 전부 잘라낸다.
+     * @return 첫 item 의 id (나머지는 순서대로 1씩 증가)
+     * */
+    public synchronized long appendSaveAll(List<Item> items) {
+        long position = position();
+        long firstId = lastSavedId + 1;
+        try {
+            long id = firstId;
+            for (Item item : items) {
+                append(SAVE, id++, item);
+            }
+            afterAppend(items.size());
+        } catch (RuntimeException e) {
+            rollback(position);
+            throw e;
+        }
+        lastSavedId = firstId + items.size() - 1;
+        return firstId;
+    }
+
+    public synchronized void appendUpdate(Long itemId, Item updateParam) {
+        long position = position();
+        try {
+            append(UPDATE, itemId, updateParam);
+            afterAppend(1);
+        } catch (RuntimeException e) {
+            rollback(position);
+            throw e;
+        }
+    }
+
+    /**
+     * 로그 전체 삭제 (clearStore)
+     * */
+    public synchronized void reset() {
+        try {
+            channel.truncate(0);
+            channel.position(0);
+            lastSavedId = 0;
+            sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 초기화 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        if (channel.isOpen()) {
+            sync();
+            channel.close();
+        }
+    }
+
+    private void append(byte type, Long id, Item item) {
+        byte[] name = item.getItemName() == null ? null : item.getItemName().getBytes(StandardCharsets.UTF_8);
+        int length = FIXED_BODY_SIZE + (name == null ? 0 : name.length);
+        if (length > MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("WAL 레코드가 너무 큽니다. length=" + length);
+        }
+        ensureCapacity(HEADER_SIZE + length);
+
+        //버퍼 재사용 (레코드 마다 새 배열을 만들지 않음)
+        buffer.clear();
+        buffer.position(HEADER_SIZE);
+        buffer.put(type);
+        buffer.putLong(id);
+        buffer.put(nullFlags(item));
+        buffer.putInt(item.getPrice() == null ? 0 : item.getPrice());
+        buffer.putInt(item.getQuantity() == null ? 0 : item.getQuantity());
+        buffer.putInt(name == null ? -1 : name.length);
+        if (name != null) {
+            buffer.put(name);
+        }
+        buffer.flip();
+
+        crc.reset();
+        buffer.position(HEADER_SIZE);
+        crc.update(buffer);
+        buffer.position(0);
+        buffer.putInt(0, length);
+        buffer.putInt(4, (int) crc.getValue());
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            dirty = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 기록 실패", e);
+        }
+    }
+
+    private void afterAppend(int records) {
+        unsynced += records;
+        if (fsyncPolicy == FsyncPolicy.ALWAYS || (fsyncPolicy == FsyncPolicy.BATCH && unsynced >= batchSize)) {
+            try {
+                sync();
+            } catch (IOException e) {
+                throw new UncheckedIOException("WAL fsync 실패", e);
+            }
+        }
+    }
+
+    private void apply(ByteBuffer body, ItemRepository target) {
+        byte type = body.get();
+        long id = body.getLong();
+        byte flags = body.get();
+        int price = body.getInt();
+        int quantity = body.getInt();
+        int nameLength = body.getInt();
+        String name = null;
+        if (nameLength >= 0) {
+            name = new String(body.array(), body.position(), nameLength, StandardCharsets.UTF_8);
+        }
+        Item item = new Item(name,
+                (flags & PRICE_NULL) != 0 ? null : price,
+                (flags & QUANTITY_NULL) != 0 ? null : quantity);
+
+        if (type == SAVE) {
+            Item savedItem = target.save(item);
+            if (savedItem.getId() != id) {
+                throw new IllegalStateException("WAL 재생 중 id 불일치. expected=" + id + ", actual=" + savedItem.getId());
+            }
+            lastSavedId = id;
+        } else if (type == UPDATE) {
+            target.update(id, item);
+        } else {
+            throw new IllegalStateException("알 수 없는 WAL 레코드 타입. type=" + type);
+        }
+    }
+
+    private long position() {
+        try {
+            return channel.position();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 위치 확인 실패", e);
+        }
+    }
+
+    /* 실패한 기록을 잘라낸다. (자르지 못하면 재생시 손상된 끝부분으로 처리됨) */
+    private void rollback(long position) {
+        try {
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException e) {
+            log.error("WAL 되돌리기 실패. position={}", position, e);
+        }
+    }
+
+    private void syncIfDirty() {
+        if (!dirty) {
+            return;
+        }
+        synchronized (this) {
+            try {
+                if (channel.isOpen()) {
+                    sync();
+                }
+            } catch (IOException e) {
+                log.error("WAL fsync 실패", e);
+            }
+        }
+    }
+
+    private void sync() throws IOException {
+        channel.force(false);
+        unsynced = 0;
+        dirty = false;
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position + target.position());
+            if (read < 0) {
+                throw new IOException("WAL 파일이 예상보다 짧습니다.");
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (buffer.capacity() < capacity) {
+            buffer = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, capacity));
+        }
+    }
+
+    private static byte nullFlags(Item item) {
+        byte flags = 0;
+        if (item.getPrice() == null) {
+            flags |= PRICE_NULL;
+        }
+        if (item.getQuantity() == null) {
+            flags |= QUANTITY_NULL;
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,148 @@
+package hello.itemservice.domain.item.wal;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSlice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+public class WalItemRepository implements ItemRepository, Closeable {
+/**
+ * 저장/수정을 WAL 에 기록하는 ItemRepository (조회는 delegate 에 그대로 위임)
+ * 생성시 로그를 재생해서 delegate 를 이전 상태로 복구한다.
+ *
+ * 로그 기록(fsync 포함) -> 저장소 반영 순서 (로그에 없는 변경이 조회되지 않도록)
+ *   ㄴ 기록에 실패하면 저장소는 그대로 두고 예외
+ *
+ * 로그 기록 + 저장소 반영을 하나의 락으로 묶는다.
+ *   ㄴ 로그 순서와 id 발급 순서가 같아야 재생시 같은 id 가 나온다.
+ *   ㄴ 기록 자체는 버퍼 복사 + 순차 쓰기라 짧다. (fsync 는 정책에 따라)
+ *   ㄴ synchronized 가 아닌 ReentrantLock: 가상 스레드가 락을 기다리는 동안 캐리어 스레드를 붙잡지 않도록
+ * */
+
+    private final ItemRepository delegate;
+    private final ItemWriteAheadLog wal;
+    private final Lock writeLock = new ReentrantLock();
+
+    public WalItemRepository(ItemRepository delegate, ItemWriteAheadLog wal) {
+        this.delegate = delegate;
+        this.wal = wal;
+        int replayed = wal.replay(delegate);
+        log.info("WAL 재생 완료. records={}", replayed);
+    }
+
+    @Override
+    public Item save(Item item) {
+        writeLock.lock();
+        try {
+            long id = wal.appendSave(item);
+            Item savedItem = delegate.save(item);
+            checkId(id, savedItem);
+            return savedItem;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        writeLock.lock();
+        try {
+            long id = wal.appendSaveAll(items);
+            List<Item> savedItems = delegate.saveAll(items);
+            for (Item savedItem : savedItems) {
+                checkId(id++, savedItem);
+            }
+            return savedItems;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        writeLock.lock();
+        try {
+            wal.appendUpdate(itemId, updateParam);
+            delegate.update(itemId, updateParam);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 수정에 성공할 경우만 기록 (재생시에는 버전 확인 없이 같은 순서로 적용 -> 같은 버전이 나옴)
+     * 쓰기는 모두 writeLock 안에서 일어나므로 기록 전에 확인한 버전이 반영할 때까지 그대로다.
+     * */
+    @Override
+    public boolean update(Long itemId, Integer expectedVersion, Item updateParam) {
+        writeLock.lock();
+        try {
+            Item findItem = delegate.findById(itemId);
+            if (findItem == null || (expectedVersion != null && !expectedVersion.equals(findItem.getVersion()))) {
+                return false;
+            }
+            wal.appendUpdate(itemId, updateParam);
+            if (!delegate.update(itemId, expectedVersion, updateParam)) {
+                throw new IllegalStateException("WAL 기록 후 수정 실패 (저장소가 WAL 을 거치지 않고 수정됨). itemId=" + itemId);
+            }
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        writeLock.lock();
+        try {
+            delegate.clearStore();
+            wal.reset();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public ItemSlice findSlice(Long afterId, int limit) {
+        return delegate.findSlice(afterId, limit);
+    }
+
+    @Override
+    public List<Item> findByPriceBetween(int minPrice, int maxPrice) {
+        return delegate.findByPriceBetween(minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Item> findByQuantityBetween(int minQuantity, int maxQuantity) {
+        return delegate.findByQuantityBetween(minQuantity, maxQuantity);
+    }
+
+    /* 로그의 id 와 저장소의 id 가 다르면 재생 결과가 달라진다. */
+    private static void checkId(long expectedId, Item savedItem) {
+        if (savedItem.getId() != expectedId) {
+            throw new IllegalStateException("WAL id 와 저장소 id 불일치. expected=" + expectedId + ", actual=" + savedItem.getId());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        wal.close();
+    }
+}
@@ -0,0 +1,131 @@
+package hello.itemservice.message;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+final class CompiledMessage {
+/**
+ * 미리 파싱한 메시지 (불변 -> 여러 스레드가 락 없이 같이 사용)
+ * "가격은 {0} ~ {1} 까지" -> ["가격은 ", 0, " ~ ", 1, " 까지"]
+ *
+ * {0} 같은 단순 인자만 직접 포맷하고 ({0,number,#} 처럼 형식이 붙은 메시지는)
+ * 파싱해둔 MessageFormat 을 복사해서 포맷한다. (MessageFormat 은 스레드 안전하지 않음)
+ * 결과는 MessageFormat 과 같다. (숫자는 locale 숫자 형식, 작은따옴표 규칙 포함)
+ * */
+
+    final String pattern;
+    private final Object[] parts; //String: 그대로 출력, Integer: 인자 index
+    private final MessageFormat template; //형식이 붙은 메시지만
+
+    private CompiledMessage(String pattern, Object[] parts, MessageFormat template) {
+        this.pattern = pattern;
+        this.parts = parts;
+        this.template = template;
+    }
+
+    static CompiledMessage compile(String pattern, Locale locale) {
+        Object[] parts = parse(pattern);
+        if (parts != null) {
+            return new CompiledMessage(pattern, parts, null);
+        }
+        try {
+            return new CompiledMessage(pattern, null, new MessageFormat(pattern, locale));
+        } catch (IllegalArgumentException e) {
+            //잘못된 형식 -> 읽을 때가 아니라 포맷할 때 오류 (ResourceBundleMessageSource 와 같음)
+            return new CompiledMessage(pattern, null, null);
+        }
+    }
+
+    /* numberFormat: 호출한 스레드 전용 (locale 숫자 형식) */
+    String format(Object[] args, Locale locale, NumberFormat numberFormat) {
+        if (parts == null) {
+            MessageFormat messageFormat = template == null ? new MessageFormat(pattern, locale) : (MessageFormat) template.clone();
+            return messageFormat.format(args);
+        }
+        StringBuilder sb = new StringBuilder(pattern.length() + 16);
+        for (Object part : parts) {
+            if (part instanceof String) {
+                sb.append((String) part);
+                continue;
+            }
+            int index = (Integer) part;
+            if (args == null || index >= args.length) {
+                sb.append('{').append(index).append('}');
+                continue;
+            }
+            appendArgument(sb, args[index], locale, numberFormat);
+        }
+        return sb.toString();
+    }
+
+    private static void appendArgument(StringBuilder sb, Object arg, Locale locale, NumberFormat numberFormat) {
+        if (arg == null) {
+            sb.append("null");
+        } else if (arg instanceof Number) {
+            sb.append(numberFormat.format(arg));
+        } else if (arg instanceof Date) {
+            sb.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg));
+        } else {
+            sb.append(arg);
+        }
+    }
+
+    /* 단순 인자({숫자})만 있으면 조각 배열, 아니면 null */
+    private static Object[] parse(String pattern) {
+        List<Object> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (quoted || c != '{') {
+                literal.append(c);
+            } else {
+                int end = pattern.indexOf('}', i + 1);
+                if (end < 0) {
+                    return null;
+                }
+                Integer index = parseIndex(pattern, i + 1, end);
+                if (index == null) {
+                    return null;
+                }
+                if (literal.length() > 0) {
+                    parts.add(literal.toString());
+                    literal.setLength(0);
+                }
+                parts.add(index);
+                i = end;
+            }
+        }
+        if (literal.length() > 0) {
+            parts.add(literal.toString());
+        }
+        return parts.toArray();
+    }
+
+    private static Integer parseIndex(String pattern, int start, int end) {
+        if (start == end || end - start > 4) {
+            return null;
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
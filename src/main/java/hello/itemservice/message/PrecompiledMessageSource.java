@@ -0,0 +1,276 @@
+package hello.itemservice.message;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.ObjectUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+@Slf4j
+public class PrecompiledMessageSource extends AbstractMessageSource {
+/**
+ * messages, errors 같은 properties 를 locale 별로 한번만 읽어서 미리 파싱해둔 메시지 소스
+ *
+ * ResourceBundleMessageSource 는 인자가 있는 메시지마다 MessageFormat 캐시를 잠그고(synchronized) 포맷한다.
+ *   ㄴ 오류 화면을 그릴 때마다 range.java.lang.Integer, totalPriceMin.item ... 을 같은 락으로 포맷
+ * 여기서는 locale 별로 (코드 -> 파싱된 메시지) 불변 map 을 만들어두고, 조회는 volatile 읽기 + map 조회만 한다. (락 없음)
+ * 새 locale 이 들어오거나 reload() 하면 새 map 을 만들어서 통째로 바꾼다.
+ *
+ * map 의 key 는 요청 locale 이 아니라 실제로 파일이 있는 locale (Accept-Language 는 클라이언트 마음대로 -> 요청 locale 로 두면 끝없이 늘어남)
+ *   ㄴ 요청 locale 을 ko_KR -> ko 순으로 줄여서 파일이 있는 첫번째, 없으면 시스템 locale 로 같은 방법, 그래도 없으면 기본 파일(Locale.ROOT)
+ *   ㄴ 파일이 있는 locale 목록은 시작할 때(reload 때) classpath 에서 한번 찾는다. -> map 크기는 파일 수를 넘지 않는다.
+ *   ㄴ 숫자 형식도 이 locale 로 (파일이 없는 언어는 기본 파일의 형식)
+ *
+ * 파일 찾는 순서는 ResourceBundle 과 같다. (basename 순서 우선 -> ko_KR, ko, (시스템 locale), 기본 파일)
+ * */
+
+    private final String[] basenames;
+    private final Charset encoding;
+    private final boolean fallbackToSystemLocale;
+    private final ResourceLoader resourceLoader;
+
+    private volatile Map<Locale, Bundle> bundles = Collections.emptyMap();
+    private volatile Set<Locale> fileLocales;
+
+    public PrecompiledMessageSource(String[] basenames, Charset encoding, boolean fallbackToSystemLocale) {
+        this(basenames, encoding, fallbackToSystemLocale, new DefaultResourceLoader());
+    }
+
+    public PrecompiledMessageSource(String[] basenames, Charset encoding, boolean fallbackToSystemLocale, ResourceLoader resourceLoader) {
+        this.basenames = basenames.clone();
+        this.encoding = encoding == null ? StandardCharsets.UTF_8 : encoding;
+        this.fallbackToSystemLocale = fallbackToSystemLocale;
+        this.resourceLoader = resourceLoader;
+        this.fileLocales = findFileLocales();
+    }
+
+    /**
+     * 지정한 locale 들을 미리 읽어둔다. (첫 요청에서 파일을 읽지 않도록)
+     * */
+    public void preload(Locale... locales) {
+        for (Locale locale : locales) {
+            bundle(locale);
+        }
+    }
+
+    /**
+     * 지금까지 읽은 locale 을 다시 읽어서 한번에 바꾼다.
+     * 다시 읽는 동안의 조회는 이전 map 을 그대로 사용한다.
+     * */
+    public synchronized void reload() {
+        fileLocales = findFileLocales();
+        Map<Locale, Bundle> reloaded = new HashMap<>();
+        for (Locale locale : bundles.keySet()) {
+            reloaded.put(locale, load(locale));
+        }
+        bundles = Collections.unmodifiableMap(reloaded);
+        log.info("메시지 다시 읽음 locales={}", reloaded.keySet());
+    }
+
+    @Override
+    protected String getMessageInternal(String code, Object[] args, Locale locale) {
+        if (code == null) {
+            return null;
+        }
+        if (locale == null) {
+            locale = Locale.getDefault();
+        }
+        Bundle bundle = bundle(locale);
+        CompiledMessage message = bundle.messages.get(code);
+        if (message == null) {
+            //부모 메시지 소스, 공통 메시지
+            return super.getMessageInternal(code, args, locale);
+        }
+        if (ObjectUtils.isEmpty(args) && !isAlwaysUseMessageFormat()) {
+            return message.pattern;
+        }
+        return message.format(resolveArguments(args, locale), locale, bundle.numberFormat.get());
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        CompiledMessage message = bundle(locale).messages.get(code);
+        return message == null ? null : message.pattern;
+    }
+
+    @Override
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        /* getMessageInternal 에서 직접 포맷하므로 여기는 이 소스에 없는 코드만 들어온다. */
+        CompiledMessage message = bundle(locale).messages.get(code);
+        return message == null ? null : createMessageFormat(message.pattern, locale);
+    }
+
+    /* 지금까지 읽은 locale (파일이 있는 locale 만) */
+    Set<Locale> loadedLocales() {
+        return bundles.keySet();
+    }
+
+    private Bundle bundle(Locale locale) {
+        Locale fileLocale = fileLocale(locale);
+        Bundle bundle = bundles.get(fileLocale);
+        if (bundle != null) {
+            return bundle;
+        }
+        return loadAndPublish(fileLocale);
+    }
+
+    /* 요청 locale -> 파일이 있는 locale (ko_KR -> ko -> 시스템 locale -> 기본 파일) */
+    private Locale fileLocale(Locale locale) {
+        Locale found = narrowestFileLocale(locale);
+        if (found == null && fallbackToSystemLocale && !locale.equals(Locale.getDefault())) {
+            found = narrowestFileLocale(Locale.getDefault());
+        }
+        return found == null ? Locale.ROOT : found;
+    }
+
+    private Locale narrowestFileLocale(Locale locale) {
+        Set<Locale> candidates = fileLocales;
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+        String variant = locale.getVariant();
+        if (!variant.isEmpty() && candidates.contains(new Locale(language, country, variant))) {
+            return new Locale(language, country, variant);
+        }
+        if (!country.isEmpty() && candidates.contains(new Locale(language, country))) {
+            return new Locale(language, country);
+        }
+        if (!language.isEmpty() && candidates.contains(new Locale(language))) {
+            return new Locale(language);
+        }
+        return null;
+    }
+
+    /* basename_언어[_국가[_변형]].properties 파일이 있는 locale 들 */
+    private Set<Locale> findFileLocales() {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(resourceLoader);
+        Set<Locale> locales = new HashSet<>();
+        for (String basename : basenames) {
+            String path = basename.replace('.', '/');
+            String prefix = path.substring(path.lastIndexOf('/') + 1) + "_";
+            try {
+                for (Resource resource : resolver.getResources("classpath*:" + path + "_*.properties")) {
+                    String filename = resource.getFilename();
+                    if (filename == null || !filename.startsWith(prefix)) {
+                        continue;
+                    }
+                    String[] parts = filename.substring(prefix.length(), filename.length() - ".properties".length()).split("_", 3);
+                    locales.add(new Locale(parts[0], parts.length > 1 ? parts[1] : "", parts.length > 2 ? parts[2] : ""));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("메시지 파일 목록을 읽을 수 없습니다. " + basename, e);
+            }
+        }
+        log.info("메시지 파일 locales={}", locales);
+        return Collections.unmodifiableSet(locales);
+    }
+
+    private synchronized Bundle loadAndPublish(Locale locale) {
+        Bundle bundle = bundles.get(locale);
+        if (bundle != null) {
+            return bundle;
+        }
+        bundle = load(locale);
+        Map<Locale, Bundle> copy = new HashMap<>(bundles);
+        copy.put(locale, bundle);
+        bundles = Collections.unmodifiableMap(copy);
+        return bundle;
+    }
+
+    /* 앞에 있는 basename 이 우선 -> 뒤에서부터 덮어쓴다. */
+    private Bundle load(Locale locale) {
+        Map<String, String> patterns = new HashMap<>();
+        for (int i = basenames.length - 1; i >= 0; i--) {
+            patterns.putAll(loadBasename(basenames[i], locale));
+        }
+        Map<String, CompiledMessage> compiled = new HashMap<>(patterns.size() * 2);
+        patterns.forEach((code, pattern) -> compiled.put(code, CompiledMessage.compile(pattern, locale)));
+        return new Bundle(Collections.unmodifiableMap(compiled), locale);
+    }
+
+    /* 기본 파일 -> 넓은 locale -> 좁은 locale 순으로 덮어쓴다. (ResourceBundle 부모 체인과 같은 결과) */
+    private Map<String, String> loadBasename(String basename, Locale locale) {
+        List<Properties> found = findLocaleFiles(basename, locale);
+        if (found.isEmpty() && fallbackToSystemLocale && !locale.equals(Locale.getDefault())) {
+            found = findLocaleFiles(basename, Locale.getDefault());
+        }
+        Map<String, String> patterns = new HashMap<>();
+        Properties base = read(basename);
+        if (base != null) {
+            base.forEach((key, value) -> patterns.put((String) key, (String) value));
+        }
+        for (int i = found.size() - 1; i >= 0; i--) {
+            found.get(i).forEach((key, value) -> patterns.put((String) key, (String) value));
+        }
+        return patterns;
+    }
+
+    /* 좁은 locale 부터 (ko_KR, ko) */
+    private List<Properties> findLocaleFiles(String basename, Locale locale) {
+        List<Properties> found = new ArrayList<>(3);
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+        String variant = locale.getVariant();
+        if (!variant.isEmpty()) {
+            addIfExists(found, basename + "_" + language + "_" + country + "_" + variant);
+        }
+        if (!country.isEmpty()) {
+            addIfExists(found, basename + "_" + language + "_" + country);
+        }
+        if (!language.isEmpty()) {
+            addIfExists(found, basename + "_" + language);
+        }
+        return found;
+    }
+
+    private void addIfExists(List<Properties> found, String name) {
+        Properties properties = read(name);
+        if (properties != null) {
+            found.add(properties);
+        }
+    }
+
+    private Properties read(String name) {
+        Resource resource = resourceLoader.getResource("classpath:" + name.replace('.', '/') + ".properties");
+        if (!resource.exists()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), encoding)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("메시지 파일을 읽을 수 없습니다. " + name, e);
+        }
+        return properties;
+    }
+
+    /* locale 하나의 메시지 (숫자 형식은 스레드별로 하나씩 만들어서 재사용) */
+    private static final class Bundle {
+        private final Map<String, CompiledMessage> messages;
+        private final ThreadLocal<NumberFormat> numberFormat;
+
+        private Bundle(Map<String, CompiledMessage> messages, Locale locale) {
+            this.messages = messages;
+            this.numberFormat = ThreadLocal.withInitial(() -> NumberFormat.getInstance(locale));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package hello.itemservice.web.validation;
+
+import java.util.Arrays;
+
+public class BatchValidationResult {
+/**
+ * 대량 검증 결과 (실패한 index 만 보관)
+ * invalidIndexes: 실패한 입력 index (오름차순)
+ * errorCodes[i]: invalidIndexes[i] 의 오류 코드 ("Range.price", "TotalPriceMin" ..., null 원소는 "NotNull")
+ *   ㄴ FieldError 전체 대신 코드 문자열만 (CachingMessageCodesResolver 가 만든 문자열을 같이 사용)
+ * */
+
+    private static final String[] NO_ERRORS = {};
+
+    private final int size;
+    private final int[] invalidIndexes;
+    private final String[][] errorCodes;
+
+    public BatchValidationResult(int size, int[] invalidIndexes, String[][] errorCodes) {
+        this.size = size;
+        this.invalidIndexes = invalidIndexes;
+        this.errorCodes = errorCodes;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getInvalidCount() {
+        return invalidIndexes.length;
+    }
+
+    public int getValidCount() {
+        return size - invalidIndexes.length;
+    }
+
+    public boolean isValid(int index) {
+        return Arrays.binarySearch(invalidIndexes, index) < 0;
+    }
+
+    public String[] getErrorCodes(int index) {
+        int position = Arrays.binarySearch(invalidIndexes, index);
+        return position < 0 ? NO_ERRORS : errorCodes[position];
+    }
+
+    public int[] getInvalidIndexes() {
+        return invalidIndexes.clone();
+    }
+}
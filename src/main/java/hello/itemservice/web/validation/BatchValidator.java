@@ -0,0 +1,134 @@
+package hello.itemservice.web.validation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+@Component
+@RequiredArgsConstructor
+public class BatchValidator {
+/**
+ * 대량 검증 (정산 등 수십만 건의 ItemSaveForm / ItemUpdateForm 을 한번에)
+ * 입력을 CHUNK_SIZE 단위로 나눠서 fork-join 으로 병렬 검증한다.
+ * validator(Bean Validation), 메시지 코드 생성기는 스레드 안전 -> 모든 스레드가 같은 인스턴스 사용
+ * 스레드끼리 공유하는 쓰기는 없다. (각자 맡은 index 칸에만 결과를 쓴다) -> 코어 수에 비례해서 빨라짐
+ * null 원소는 그 index 의 오류 "NotNull" (/batch 의 null 원소와 같은 코드)
+ * */
+
+    static final int CHUNK_SIZE = 1024;
+
+    private static final String[] NULL_TARGET_CODES = {"NotNull"};
+
+    private final Validator validator;
+    private final MessageCodesResolver messageCodesResolver;
+
+    /* 0 이면 CPU 코어 수 */
+    @Setter
+    @Value("${item.validation.batch.parallelism:0}")
+    private int parallelism;
+
+    /**
+     * @param validationHints 검증 그룹 (@Validated 와 같음, 없으면 Default)
+     * */
+    public BatchValidationResult validateAll(List<?> targets, Object... validationHints) {
+        SpringValidatorAdapter formValidator = new ItemValidatorAdapter(validator);
+        String[][] errorCodes = new String[targets.size()][];
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new ValidateTask(targets, formValidator, validationHints, errorCodes, 0, targets.size()));
+        } finally {
+            pool.shutdown();
+        }
+        return compact(errorCodes);
+    }
+
+    /* 실패한 칸만 남긴다. */
+    private BatchValidationResult compact(String[][] errorCodes) {
+        int invalidCount = 0;
+        for (String[] codes : errorCodes) {
+            if (codes != null) {
+                invalidCount++;
+            }
+        }
+        int[] invalidIndexes = new int[invalidCount];
+        String[][] invalidCodes = new String[invalidCount][];
+        int position = 0;
+        for (int i = 0; i < errorCodes.length; i++) {
+            if (errorCodes[i] != null) {
+                invalidIndexes[position] = i;
+                invalidCodes[position++] = errorCodes[i];
+            }
+        }
+        return new BatchValidationResult(errorCodes.length, invalidIndexes, invalidCodes);
+    }
+
+    private String[] validate(Object target, SpringValidatorAdapter formValidator, Object[] validationHints) {
+        if (target == null) {
+            return NULL_TARGET_CODES;
+        }
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, StringUtils.uncapitalize(target.getClass().getSimpleName()));
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        formValidator.validate(target, bindingResult, validationHints);
+
+        if (!bindingResult.hasErrors()) {
+            return null;
+        }
+        List<ObjectError> errors = bindingResult.getAllErrors();
+        String[] codes = new String[errors.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = code(errors.get(i));
+        }
+        return codes;
+    }
+
+    /* 두번째 메시지 코드 = "코드.필드" (필드 오류), "코드" (객체 오류) -> 캐시된 문자열이라 새로 만들지 않음 */
+    private static String code(ObjectError error) {
+        String[] codes = error.getCodes();
+        return codes != null && codes.length >= 2 ? codes[1] : error.getCode();
+    }
+
+    private class ValidateTask extends RecursiveAction {
+        private final List<?> targets;
+        private final SpringValidatorAdapter formValidator;
+        private final Object[] validationHints;
+        private final String[][] errorCodes;
+        private final int from;
+        private final int to;
+
+        ValidateTask(List<?> targets, SpringValidatorAdapter formValidator, Object[] validationHints,
+                     String[][] errorCodes, int from, int to) {
+            this.targets = targets;
+            this.formValidator = formValidator;
+            this.validationHints = validationHints;
+            this.errorCodes = errorCodes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    errorCodes[i] = validate(targets.get(i), formValidator, validationHints);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ValidateTask(targets, formValidator, validationHints, errorCodes, from, mid),
+                    new ValidateTask(targets, formValidator, validationHints, errorCodes, mid, to));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class CachingMessageCodesResolver implements MessageCodesResolver {
+/**
+ * DefaultMessageCodesResolver 결과를 캐시
+ * rejectValue("price", "range", ...) 마다 "range.item.price", "range.price" ... 를 문자열 연결로 새로 만들지 않고,
+ * (에러 코드, 객체 이름, 필드, 필드 타입) 별로 한번 만든 배열을 같이 사용한다.
+ *
+ * 반환된 배열은 공유되므로 수정하면 안 된다. (FieldError, MessageSource 는 읽기만 함)
+ * 조합 수는 거의 고정이지만, items[0].price 처럼 index 가 붙은 필드로 계속 늘어나는 걸 막기 위해 MAX_ENTRIES 까지만 캐시
+ * */
+
+    static final int MAX_ENTRIES = 4096;
+
+    private final MessageCodesResolver delegate;
+    private final ConcurrentMap<Key, String[]> cache = new ConcurrentHashMap<>();
+
+    public CachingMessageCodesResolver() {
+        this(new DefaultMessageCodesResolver());
+    }
+
+    public CachingMessageCodesResolver(MessageCodesResolver delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        return resolve(new Key(errorCode, objectName, null, null));
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, Class<?> fieldType) {
+        return resolve(new Key(errorCode, objectName, field, fieldType));
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private String[] resolve(Key key) {
+        String[] codes = cache.get(key);
+        if (codes != null) {
+            return codes;
+        }
+        codes = key.field == null
+                ? delegate.resolveMessageCodes(key.errorCode, key.objectName)
+                : delegate.resolveMessageCodes(key.errorCode, key.objectName, key.field, key.fieldType);
+        if (cache.size() < MAX_ENTRIES) {
+            String[] existing = cache.putIfAbsent(key, codes);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return codes;
+    }
+
+    private static final class Key {
+        private final String errorCode;
+        private final String objectName;
+        private final String field;
+        private final Class<?> fieldType;
+        private final int hash;
+
+        private Key(String errorCode, String objectName, String field, Class<?> fieldType) {
+            this.errorCode = errorCode;
+            this.objectName = objectName;
+            this.field = field;
+            this.fieldType = fieldType;
+            this.hash = Objects.hash(errorCode, objectName, field, fieldType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(errorCode, key.errorCode) && Objects.equals(objectName, key.objectName)
+                    && Objects.equals(field, key.field) && fieldType == key.fieldType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
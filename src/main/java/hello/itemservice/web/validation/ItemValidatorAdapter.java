@@ -0,0 +1,48 @@
+package hello.itemservice.web.validation;
+
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class ItemValidatorAdapter extends SpringValidatorAdapter {
+/**
+ * SpringValidatorAdapter + 제약 검증기가 정한 오류 인자
+ * 클래스 레벨 제약의 검증기가 dynamic payload 로 Object[] 를 넘기면 그것을 객체 오류의 인자로 쓴다.
+ *   ㄴ 기본 인자는 [객체 이름, 어노테이션 속성들] 이라 검증할 때 계산한 값(ex] 현재 총액)을 메시지에 넣을 수 없음
+ *   ㄴ @TotalPriceMin -> {0} = 최소 금액, {1} = 현재 가격 * 수량 (이전 totalPriceMin 과 같은 인자)
+ * 나머지 오류는 SpringValidatorAdapter 그대로
+ * */
+
+    public ItemValidatorAdapter(Validator targetValidator) {
+        super(targetValidator);
+    }
+
+    @Override
+    protected void processConstraintViolations(Set<ConstraintViolation<Object>> violations, Errors errors) {
+        Set<ConstraintViolation<Object>> defaultViolations = new LinkedHashSet<>();
+        Set<ConstraintViolation<Object>> argumentViolations = new LinkedHashSet<>();
+        for (ConstraintViolation<Object> violation : violations) {
+            if (errorArguments(violation) != null && violation.getPropertyPath().toString().isEmpty()) {
+                argumentViolations.add(violation);
+            } else {
+                defaultViolations.add(violation);
+            }
+        }
+        super.processConstraintViolations(defaultViolations, errors);
+        for (ConstraintViolation<Object> violation : argumentViolations) {
+            errors.reject(determineErrorCode(violation.getConstraintDescriptor()), errorArguments(violation), violation.getMessage());
+        }
+    }
+
+    private static Object[] errorArguments(ConstraintViolation<?> violation) {
+        if (!(violation instanceof HibernateConstraintViolation)) {
+            return null;
+        }
+        return ((HibernateConstraintViolation<?>) violation).getDynamicPayload(Object[].class);
+    }
+}
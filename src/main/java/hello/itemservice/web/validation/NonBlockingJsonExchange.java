@@ -0,0 +1,198 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+
+@Slf4j
+class NonBlockingJsonExchange implements ReadListener, WriteListener {
+/**
+ * 요청 본문 읽기, 응답 쓰기를 서블릿 논블로킹 I/O 로 (ReadListener / WriteListener)
+ *   ㄴ 요청 스레드는 start 후 바로 반환, 데이터가 들어오거나 쓸 수 있을 때만 콜백이 컨테이너 스레드에서 잠깐 실행된다.
+ *   ㄴ 느린 클라이언트가 많아도 기다리는 동안 스레드를 붙잡지 않음
+ *
+ * 1. 본문을 끝까지 읽는다. (maxBodySize 초과면 413)
+ * 2. handler(본문) -> Reply (상태 코드 + 응답 값들)
+ * 3. 응답 값을 하나씩 JSON 한 줄로 쓴다. (application/x-ndjson, 출력 버퍼가 찰 때마다 멈췄다가 이어서)
+ *   ㄴ 검증, 저장은 handler 에서 끝내고 값을 미리 만들어 둔다. 쓰기 콜백에서는 JSON 으로 바꿔서 쓰기만 함
+ * 시간 초과(timeoutMs), 연결 오류면 여기서 요청을 끝낸다. (AsyncListener, 응답 전에 시간 초과면 503)
+ * */
+
+    static final String NDJSON = "application/x-ndjson;charset=UTF-8";
+
+    private static final byte NEW_LINE = '\n';
+
+    private final AsyncContext asyncContext;
+    private final ObjectMapper objectMapper;
+    private final int maxBodySize;
+    private final Function<byte[], Reply> handler;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final byte[] chunk = new byte[8192];
+
+    private ServletInputStream input;
+    private ServletOutputStream output;
+    private Iterator<?> values;
+    private volatile boolean replied;
+    private volatile boolean done;
+
+    private NonBlockingJsonExchange(AsyncContext asyncContext, ObjectMapper objectMapper, int maxBodySize, Function<byte[], Reply> handler) {
+        this.asyncContext = asyncContext;
+        this.objectMapper = objectMapper;
+        this.maxBodySize = maxBodySize;
+        this.handler = handler;
+    }
+
+    static void start(HttpServletRequest request, ObjectMapper objectMapper, long timeoutMs, int maxBodySize,
+                      Function<byte[], Reply> handler) throws IOException {
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(timeoutMs);
+        NonBlockingJsonExchange exchange = new NonBlockingJsonExchange(asyncContext, objectMapper, maxBodySize, handler);
+        asyncContext.addListener(exchange.new CompletionListener());
+        exchange.input = request.getInputStream();
+        exchange.input.setReadListener(exchange);
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        int read;
+        while (!replied && !done && input.isReady() && (read = input.read(chunk)) != -1) {
+            if (body.size() + read > maxBodySize) {
+                reply(Reply.of(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, Collections.emptyIterator()));
+                return;
+            }
+            body.write(chunk, 0, read);
+        }
+    }
+
+    @Override
+    public void onAllDataRead() throws IOException {
+        if (replied || done) {
+            return;
+        }
+        Reply reply;
+        try {
+            reply = handler.apply(body.toByteArray());
+        } catch (RuntimeException e) {
+            log.error("요청 처리 실패", e);
+            reply = Reply.of(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, Collections.emptyIterator());
+        }
+        reply(reply);
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        try {
+            while (!done && output.isReady()) {
+                if (!values.hasNext()) {
+                    complete();
+                    return;
+                }
+                output.write(toLine(values.next()));
+            }
+        } catch (RuntimeException e) {
+            //이미 응답을 쓰는 중이라 상태 코드는 바꿀 수 없음 -> 여기까지만 보내고 끝낸다.
+            log.error("응답 쓰기 실패", e);
+            complete();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        log.warn("논블로킹 요청 처리 중 오류", t);
+        complete();
+    }
+
+    private void reply(Reply reply) throws IOException {
+        replied = true;
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        response.setStatus(reply.status);
+        response.setContentType(NDJSON);
+        values = reply.values;
+        output = response.getOutputStream();
+        output.setWriteListener(this); //쓸 수 있게 되면 onWritePossible 호출
+    }
+
+    private byte[] toLine(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = NEW_LINE;
+            return line;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized void complete() {
+        if (!done) {
+            done = true;
+            asyncContext.complete();
+        }
+    }
+
+    /**
+     * 시간 초과, 오류 -> 요청을 끝낸다. (컨테이너가 끝낸 뒤에는 콜백에서 더 읽거나 쓰지 않음)
+     * */
+    private class CompletionListener implements AsyncListener {
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            log.warn("논블로킹 요청 시간 초과 replied={}", replied);
+            HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+            if (!replied && !response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            }
+            complete();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            log.warn("논블로킹 요청 연결 오류", event.getThrowable());
+            complete();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            done = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    static final class Reply {
+        private final int status;
+        private final Iterator<?> values;
+
+        private Reply(int status, Iterator<?> values) {
+            this.status = status;
+            this.values = values;
+        }
+
+        static Reply of(int status, Iterator<?> values) {
+            return new Reply(status, values);
+        }
+
+        static Reply of(int status, Object value) {
+            return new Reply(status, Collections.singletonList(value).iterator());
+        }
+    }
+}
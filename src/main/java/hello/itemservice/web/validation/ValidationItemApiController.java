@@ -1,29 +1,160 @@
 package hello.itemservice.web.validation;
 
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.form.ItemBatchResult;
 import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ValidationCacheStats;
+import hello.itemservice.web.validation.form.ValidationError;
+import hello.itemservice.web.validation.form.WarmupReport;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
-import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
 //14572t
 @Slf4j
 @RestController
 @RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
 public class ValidationItemApiController {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final Validator validator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final FailFastValidator failFastValidator;
+    private final MessageSource messageSource;
+    private final ValidationResultCache validationResultCache;
+    private final ValidationWarmup validationWarmup;
+    private final ValidationMetrics validationMetrics;
+    private final ApplicationAvailability applicationAvailability;
+
+    @InitBinder
+    public void init(WebDataBinder dataBinder) {
+        validationResultCache.apply(dataBinder);
+    }
+
+    /**
+     * fail-fast: 첫번째 오류만 돌려준다. (api 클라이언트는 첫 오류로 요청을 거절하면 충분)
+     * 필드 제약, 복합 룰(@TotalPriceMin) 중 먼저 걸린 오류 하나에서 멈춘다.
+     * item.validation.generated=true 면 @Validated 엔드포인트처럼 생성된 검증기로 (FailFastValidator)
+     * */
     @PostMapping("/add")
-    public Object addItem(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult) {
+    public Object addItem(@RequestBody ItemSaveForm form, BindingResult bindingResult, Locale locale) {
 
         log.info("api 컨트롤러 호출");
+        validationMetrics.validate(validationResultCache.wrap(failFastValidator), form, bindingResult);
 
         if(bindingResult.hasErrors()){
             log.info("검증 오류 발생 errors={}", bindingResult);
-            return bindingResult.getAllErrors();
+            return ValidationError.of(bindingResult.getAllErrors(), messageSource, locale);
         }
         log.info("성공 로직 실행");
         return form;
     }
+
+    /**
+     * 일괄 등록
+     * 요청 배열의 form 을 하나씩 검증(Bean Validation, 총액은 @TotalPriceMin)하고,
+     * 통과한 form 만 모아서 saveAll 로 한번에 저장한다. 실패한 form 은 index 별로 오류를 돌려준다.
+     * 배열 안의 null 은 그 index 의 오류(NotNull), 본문 자체가 없거나 null 이면 400
+     * */
+    @PostMapping("/batch")
+    public ItemBatchResult addItems(@RequestBody(required = false) List<ItemSaveForm> forms, Locale locale) {
+        if (forms == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "등록할 상품 목록이 없습니다.");
+        }
+        if (forms.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한번에 최대 " + MAX_BATCH_SIZE + "개까지 등록할 수 있습니다.");
+        }
+
+        SpringValidatorAdapter formValidator = new ItemValidatorAdapter(validator);
+        ItemBatchResult result = new ItemBatchResult();
+        List<Item> items = new ArrayList<>(forms.size());
+
+        for (int i = 0; i < forms.size(); i++) {
+            ItemSaveForm form = forms.get(i);
+            if (form == null) {
+                result.addError(i, ValidationError.of(nullFormErrors(messageCodesResolver), messageSource, locale));
+                continue;
+            }
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+            bindingResult.setMessageCodesResolver(messageCodesResolver);
+            validationMetrics.validate(formValidator, form, bindingResult);
+
+            if (bindingResult.hasErrors()) {
+                result.addError(i, ValidationError.of(bindingResult.getAllErrors(), messageSource, locale));
+                continue;
+            }
+            items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+        }
+
+        for (Item savedItem : itemRepository.saveAll(items)) {
+            result.addSavedId(savedItem.getId());
+        }
+        log.info("일괄 등록 saved={}, failed={}", result.getSavedIds().size(), result.getErrors().size());
+        return result;
+    }
+
+    /**
+     * 일괄 등록 배열 안의 null -> 객체 오류 하나 (NotNull.itemSaveForm, NotNull)
+     * */
+    static List<ObjectError> nullFormErrors(MessageCodesResolver messageCodesResolver) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(null, "itemSaveForm");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        bindingResult.reject("NotNull", "상품 정보가 없습니다.");
+        return bindingResult.getAllErrors();
+    }
+
+    /**
+     * 검증 결과 캐시 상태 (적중/실패 수)
+     * */
+    @GetMapping("/validation-cache")
+    public ValidationCacheStats validationCacheStats() {
+        return validationResultCache.getStats();
+    }
+
+    /**
+     * 검증 지표 (Prometheus 가 수집)
+     * */
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String metrics() {
+        return validationMetrics.scrape();
+    }
+
+    /**
+     * 준비 확인 (readiness probe 용)
+     * 검증 예열이 끝나고 애플리케이션이 요청을 받을 수 있을 때만 200, 그 전에는 503
+     * 응답에 예열 단계별 시간(ms)
+     * */
+    @GetMapping("/warmup")
+    public ResponseEntity<WarmupReport> warmup() {
+        WarmupReport report = validationWarmup.getReport();
+        boolean ready = report.isReady()
+                && applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(report);
+    }
 }
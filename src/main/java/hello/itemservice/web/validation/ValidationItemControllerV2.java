@@ -2,6 +2,7 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSlice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -16,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -27,6 +27,7 @@ public class ValidationItemControllerV2 {
 
     private final ItemRepository itemRepository;
     private final itemValidator itemValidator;
+    private final ValidationMetrics validationMetrics;
 
     @InitBinder
     /* InitBinder: 특정 컨트롤러에서 바인딩 또는 검증 설정을 변경하고 싶을 때 사용. (ValidationItemControllerV2 에만 해당된다는 뜻)
@@ -37,13 +38,18 @@ public class ValidationItemControllerV2 {
     * */
     public void init(WebDataBinder dataBinder) {
         dataBinder.addValidators(itemValidator);
+        validationMetrics.apply(dataBinder); //검증 오류 수, 시간 측정
     }
 
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, Model model) {
+        ItemSlice slice = itemRepository.findSlice(after, size);
+        model.addAttribute("items", slice.getItems());
+        model.addAttribute("after", after);
+        model.addAttribute("size", size);
+        model.addAttribute("nextCursor", slice.getNextCursor());
         return "validation/v2/items";
     }
 
@@ -2,6 +2,7 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSlice;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +18,6 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Slf4j
 @Controller
 @RequestMapping("/validation/v3/items")
@@ -26,11 +25,22 @@ import java.util.List;
 public class ValidationItemControllerV3 {
 
     private final ItemRepository itemRepository;
+    private final ValidationMetrics validationMetrics;
+
+    @InitBinder
+    /* @Validated 검증 오류 수, 시간 측정 */
+    public void init(WebDataBinder dataBinder) {
+        validationMetrics.apply(dataBinder);
+    }
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, Model model) {
+        ItemSlice slice = itemRepository.findSlice(after, size);
+        model.addAttribute("items", slice.getItems());
+        model.addAttribute("after", after);
+        model.addAttribute("size", size);
+        model.addAttribute("nextCursor", slice.getNextCursor());
         return "validation/v3/items";
     }
 
@@ -53,13 +63,7 @@ public class ValidationItemControllerV3 {
        *   검증 범위 제한을 위한 class 지정
        * */
 
-        //Object error
-        if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if(resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000,resultPrice},null);
-            }
-        }
+        //Object error (가격 * 수량) 은 Item 의 @TotalPriceMin(SaveCheck, UpdateCheck) 으로 같이 처리
 
         //검증에 실패하면 다시 입력 폼으로
         if(bindingResult.hasErrors()) {
@@ -83,12 +87,6 @@ public class ValidationItemControllerV3 {
 
     @PostMapping("/{itemId}/edit")
     public String edit(@PathVariable Long itemId, @Validated(UpdateCheck.class) @ModelAttribute Item item, BindingResult bindingResult) {
-        if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if(resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000,resultPrice},null);
-            }
-        }
         //검증에 실패하면 다시 입력 폼으로
         if(bindingResult.hasErrors()) {
             log.info("error = {}", bindingResult);
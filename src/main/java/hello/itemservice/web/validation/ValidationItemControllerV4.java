@@ -2,6 +2,7 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSlice;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
 import hello.itemservice.web.validation.form.ItemSaveForm;
@@ -12,11 +13,10 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Slf4j
 @Controller
 @RequestMapping("/validation/v4/items")
@@ -24,11 +24,26 @@ import java.util.List;
 public class ValidationItemControllerV4 {
 
     private final ItemRepository itemRepository;
+    private final ValidationResultCache validationResultCache;
+    private final ValidationMetrics validationMetrics;
+
+    @InitBinder
+    /* 같은 폼이 반복해서 들어오면 @Validated 검증 결과를 캐시에서 (item.validation.cache.enabled=true 일 때만)
+    *  검증 오류 수, 시간 측정 (캐시 적중 포함)
+    * */
+    public void init(WebDataBinder dataBinder) {
+        validationResultCache.apply(dataBinder);
+        validationMetrics.apply(dataBinder);
+    }
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, Model model) {
+        ItemSlice slice = itemRepository.findSlice(after, size);
+        model.addAttribute("items", slice.getItems());
+        model.addAttribute("after", after);
+        model.addAttribute("size", size);
+        model.addAttribute("nextCursor", slice.getNextCursor());
         return "validation/v4/items";
     }
 
@@ -52,13 +67,7 @@ public class ValidationItemControllerV4 {
        *   기능마다 vo 분리 (ItemSaveForm form)
        * */
 
-        //Object error
-        if(form.getPrice() != null && form.getQuantity() != null){
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if(resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000,resultPrice},null);
-            }
-        }
+        //Object error (가격 * 수량) 은 ItemSaveForm 의 @TotalPriceMin 으로 필드 검증과 같이 처리
 
         //검증에 실패하면 다시 입력 폼으로
         if(bindingResult.hasErrors()) {
@@ -89,12 +98,6 @@ public class ValidationItemControllerV4 {
 
     @PostMapping("/{itemId}/edit")
     public String edit(@PathVariable Long itemId, @Validated @ModelAttribute("item") ItemUpdateForm form, BindingResult bindingResult) {
-        if(form.getPrice() != null && form.getQuantity() != null){
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if(resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000,resultPrice},null);
-            }
-        }
         //검증에 실패하면 다시 입력 폼으로
         if(bindingResult.hasErrors()) {
             log.info("error = {}", bindingResult);
@@ -105,7 +108,12 @@ public class ValidationItemControllerV4 {
         itemParam.setPrice(form.getPrice());
         itemParam.setQuantity(form.getQuantity());
 
-        itemRepository.update(itemId, itemParam);
+        //다른 사용자가 먼저 수정한 경우 (버전 불일치) -> 덮어쓰지 않고 오류로 돌려보냄
+        if (!itemRepository.update(itemId, form.getVersion(), itemParam)) {
+            bindingResult.reject("conflict", null, null);
+            log.info("error = {}", bindingResult);
+            return "validation/v4/editForm";
+        }
         return "redirect:/validation/v4/items/{itemId}";
     }
 
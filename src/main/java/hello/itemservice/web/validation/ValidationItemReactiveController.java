@@ -0,0 +1,152 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.NonBlockingJsonExchange.Reply;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ValidationError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/validation/reactive/items")
+@RequiredArgsConstructor
+public class ValidationItemReactiveController {
+/**
+ * api(ValidationItemApiController) 와 같은 검증을 논블로킹으로
+ * 본문을 다 받을 때까지, 응답을 다 보낼 때까지 요청 스레드를 붙잡지 않는다. (NonBlockingJsonExchange)
+ *   ㄴ 느린 클라이언트가 많아도 적은 수의 톰캣 스레드로 처리
+ *
+ * 응답은 application/x-ndjson (한 줄에 JSON 하나, 오류를 하나씩 흘려보냄)
+ *  add: 통과면 200 + form 한 줄, 실패면 400 + 오류 한 줄 (fail-fast, api 와 같음)
+ *  batch: 실패한 form 마다 {"index":0,"errors":[...]} 한 줄, 마지막에 {"saved":1,"failed":1}
+ *    ㄴ 배열 안의 null 은 그 index 의 오류(NotNull), 본문이 null 이면 400 + {"code":"noItems", ...}
+ *  잘못된 JSON 은 400 + {"code":"invalidJson", ...}
+ *
+ * 응답을 직접 쓰기 때문에 HttpServletResponse 를 받는다. (뷰, 메시지 컨버터를 거치지 않음)
+ * */
+
+    static final long TIMEOUT_MS = 30_000;
+    static final int MAX_BODY_SIZE = 1024 * 1024;
+
+    private static final TypeReference<List<ItemSaveForm>> FORM_LIST = new TypeReference<>() {
+    };
+
+    private final ItemRepository itemRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final FailFastValidator failFastValidator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final MessageSource messageSource;
+    private final ValidationMetrics validationMetrics;
+
+    @PostMapping(value = "/add", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void addItem(HttpServletRequest request, HttpServletResponse response, Locale locale) throws IOException {
+        NonBlockingJsonExchange.start(request, objectMapper, TIMEOUT_MS, MAX_BODY_SIZE, body -> {
+            ItemSaveForm form;
+            try {
+                form = objectMapper.readValue(body, ItemSaveForm.class);
+            } catch (IOException e) {
+                return invalidJson(e);
+            }
+            if (form == null) {
+                return Reply.of(HttpServletResponse.SC_BAD_REQUEST,
+                        ValidationError.of(ValidationItemApiController.nullFormErrors(messageCodesResolver), messageSource, locale).iterator());
+            }
+
+            BeanPropertyBindingResult bindingResult = bindingResult(form);
+            validationMetrics.validate("POST /validation/reactive/items/add", failFastValidator, form, bindingResult);
+            if (bindingResult.hasErrors()) {
+                return Reply.of(HttpServletResponse.SC_BAD_REQUEST,
+                        ValidationError.of(bindingResult.getAllErrors(), messageSource, locale).iterator());
+            }
+            return Reply.of(HttpServletResponse.SC_OK, form);
+        });
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void addItems(HttpServletRequest request, HttpServletResponse response, Locale locale) throws IOException {
+        NonBlockingJsonExchange.start(request, objectMapper, TIMEOUT_MS, MAX_BODY_SIZE, body -> {
+            List<ItemSaveForm> forms;
+            try {
+                forms = objectMapper.readValue(body, FORM_LIST);
+            } catch (IOException e) {
+                return invalidJson(e);
+            }
+            if (forms == null) {
+                return Reply.of(HttpServletResponse.SC_BAD_REQUEST, new ValidationError(null, "noItems", "등록할 상품 목록이 없습니다.", null));
+            }
+            if (forms.size() > ValidationItemApiController.MAX_BATCH_SIZE) {
+                return Reply.of(HttpServletResponse.SC_BAD_REQUEST, new ValidationError(null, "tooManyItems",
+                        "한번에 최대 " + ValidationItemApiController.MAX_BATCH_SIZE + "개까지 등록할 수 있습니다.", forms.size()));
+            }
+            return Reply.of(HttpServletResponse.SC_OK, batchLines(forms, locale).iterator());
+        });
+    }
+
+    private BeanPropertyBindingResult bindingResult(ItemSaveForm form) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        return bindingResult;
+    }
+
+    private static Reply invalidJson(IOException e) {
+        String message = e instanceof JsonProcessingException ? ((JsonProcessingException) e).getOriginalMessage() : e.getMessage();
+        return Reply.of(HttpServletResponse.SC_BAD_REQUEST, new ValidationError(null, "invalidJson", message, null));
+    }
+
+    /**
+     * 일괄 등록 응답 줄 (본문을 다 읽은 콜백에서 검증, 저장까지 끝내고 줄을 미리 만든다)
+     * 통과한 form 은 모아서 saveAll 로 한번에 저장 (api batch 와 같음)
+     * */
+    private List<Object> batchLines(List<ItemSaveForm> forms, Locale locale) {
+        SpringValidatorAdapter formValidator = new ItemValidatorAdapter(validator);
+        List<Object> lines = new ArrayList<>();
+        List<Item> items = new ArrayList<>(forms.size());
+        for (int i = 0; i < forms.size(); i++) {
+            ItemSaveForm form = forms.get(i);
+            List<ValidationError> errors;
+            if (form == null) {
+                errors = ValidationError.of(ValidationItemApiController.nullFormErrors(messageCodesResolver), messageSource, locale);
+            } else {
+                BeanPropertyBindingResult bindingResult = bindingResult(form);
+                validationMetrics.validate("POST /validation/reactive/items/batch", formValidator, form, bindingResult);
+                if (!bindingResult.hasErrors()) {
+                    items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+                    continue;
+                }
+                errors = ValidationError.of(bindingResult.getAllErrors(), messageSource, locale);
+            }
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("index", i);
+            line.put("errors", errors);
+            lines.add(line);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("saved", items.isEmpty() ? 0 : itemRepository.saveAll(items).size());
+        summary.put("failed", lines.size());
+        lines.add(summary);
+        return lines;
+    }
+}
@@ -0,0 +1,293 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSlice;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ValidationError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@RestController
+@RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
+public class ValidationItemStreamController {
+/**
+ * 대량 내보내기 / 가져오기 api
+ * 전체 목록을 메모리에 만들지 않고, 커서 페이징(findSlice)으로 한 페이지씩 읽어서 바로 응답에 쓴다.
+ *   ㄴ item 수와 관계없이 한번에 메모리에 올라가는 건 한 페이지 분량
+ * 가져오기도 요청 본문을 한 줄씩 읽어서 처리하고, 저장은 IMPORT_BATCH_SIZE 개씩 모아서 한다.
+ * */
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    static final int IMPORT_BATCH_SIZE = 500;
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final ItemRepository itemRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final MessageSource messageSource;
+    private final ValidationMetrics validationMetrics;
+
+    /**
+     * format: ndjson(기본, 한 줄에 item 하나) | csv
+     * */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        log.info("item 내보내기 format={}", format);
+        if ("csv".equals(format)) {
+            return ResponseEntity.ok()
+                    .contentType(TEXT_CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=items.csv")
+                    .body(this::writeCsv);
+        }
+        if ("ndjson".equals(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=items.ndjson")
+                    .body(this::writeNdjson);
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * NDJSON 가져오기 (한 줄 = ItemSaveForm 하나)
+     * 줄마다 Bean Validation + 총액 검증을 하고, 통과한 form 은 모아서 saveAll 로 저장한다.
+ * null 인 줄은 그 줄의 오류(NotNull), /batch 의 null 원소와 같다.
+     * 실패한 줄은 처리하는 즉시 응답에 한 줄씩 쓰고 바로 내보낸다. (flush, 저장 배치를 기다리지 않음)
+     *   {"line":3,"errors":[{"field":"price","code":"Range","message":"...","rejectedValue":10}]}
+     * 마지막 줄은 결과 요약. {"saved":10,"failed":1}
+     *
+     * 요청을 읽고 -> 처리하고 -> 응답을 쓰는 것을 한 스레드에서 순서대로 하므로,
+     * 처리가 밀리면 요청을 덜 읽게 되어 보내는 쪽도 자연스럽게 느려진다. (TCP 흐름 제어)
+     * */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importItems(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        SpringValidatorAdapter formValidator = new ItemValidatorAdapter(validator);
+        Locale locale = request.getLocale();
+        List<Item> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int saved = 0;
+        int failed = 0;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Reader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            StringBuilder line = new StringBuilder();
+            int lineNumber = 0;
+            while (readLine(reader, line)) {
+                lineNumber++;
+                if (line.length() > MAX_LINE_LENGTH) {
+                    failed++;
+                    writeLineError(generator, lineNumber, "lineTooLong", "한 줄은 최대 " + MAX_LINE_LENGTH + "자 까지 허용합니다.");
+                    generator.flush();
+                    continue;
+                }
+                if (line.toString().isBlank()) {
+                    continue;
+                }
+
+                ItemSaveForm form;
+                try {
+                    form = objectMapper.readValue(line.toString(), ItemSaveForm.class);
+                } catch (JsonProcessingException e) {
+                    failed++;
+                    writeLineError(generator, lineNumber, "invalidJson", e.getOriginalMessage());
+                    generator.flush();
+                    continue;
+                }
+                if (form == null) {
+                    failed++;
+                    writeValidationErrors(generator, lineNumber, ValidationItemApiController.nullFormErrors(messageCodesResolver), locale);
+                    generator.flush();
+                    continue;
+                }
+
+                BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+                bindingResult.setMessageCodesResolver(messageCodesResolver);
+                validationMetrics.validate(formValidator, form, bindingResult);
+
+                if (bindingResult.hasErrors()) {
+                    failed++;
+                    writeValidationErrors(generator, lineNumber, bindingResult.getAllErrors(), locale);
+                    generator.flush();
+                    continue;
+                }
+
+                batch.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+                if (batch.size() >= IMPORT_BATCH_SIZE) {
+                    saved += flushBatch(batch);
+                    generator.flush();
+                }
+            }
+            saved += flushBatch(batch);
+
+            generator.writeStartObject();
+            generator.writeNumberField("saved", saved);
+            generator.writeNumberField("failed", failed);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        log.info("item 가져오기 saved={}, failed={}", saved, failed);
+    }
+
+    private int flushBatch(List<Item> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int count = itemRepository.saveAll(batch).size();
+        batch.clear();
+        return count;
+    }
+
+    /**
+     * 한 줄 읽기 (줄바꿈 제외). MAX_LINE_LENGTH 를 넘는 부분은 버리고 길이만 넘었다는 표시(+1)를 남긴다.
+     * @return 더 읽을 줄이 없으면 false
+     * */
+    private static boolean readLine(Reader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c < 0) {
+            return false;
+        }
+        boolean tooLong = false;
+        while (c >= 0 && c != '\n') {
+            if (c != '\r') {
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            c = reader.read();
+        }
+        if (tooLong) {
+            line.append(' ');
+        }
+        return true;
+    }
+
+    private void writeValidationErrors(JsonGenerator generator, int lineNumber, List<ObjectError> errors, Locale locale) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", lineNumber);
+        generator.writeArrayFieldStart("errors");
+        for (ObjectError error : errors) {
+            ValidationError.of(error, messageSource, locale).writeTo(generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeLineError(JsonGenerator generator, int lineNumber, String code, String message) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", lineNumber);
+        generator.writeArrayFieldStart("errors");
+        new ValidationError(null, code, message, null).writeTo(generator);
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n")); //item 사이 구분자 = 줄바꿈
+
+            Long after = null;
+            do {
+                ItemSlice slice = itemRepository.findSlice(after, ItemRepository.MAX_PAGE_SIZE);
+                for (Item item : slice.getItems()) {
+                    generator.writeStartObject();
+                    generator.writeObjectField("id", item.getId());
+                    generator.writeObjectField("itemName", item.getItemName());
+                    generator.writeObjectField("price", item.getPrice());
+                    generator.writeObjectField("quantity", item.getQuantity());
+                    generator.writeObjectField("version", item.getVersion());
+                    generator.writeEndObject();
+                }
+                generator.flush();
+                after = slice.getNextCursor();
+            } while (after != null);
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,itemName,price,quantity,version\n");
+
+        Long after = null;
+        do {
+            ItemSlice slice = itemRepository.findSlice(after, ItemRepository.MAX_PAGE_SIZE);
+            for (Item item : slice.getItems()) {
+                writer.write(String.valueOf(item.getId()));
+                writer.write(',');
+                writeCsvValue(writer, item.getItemName());
+                writer.write(',');
+                writeCsvValue(writer, item.getPrice());
+                writer.write(',');
+                writeCsvValue(writer, item.getQuantity());
+                writer.write(',');
+                writeCsvValue(writer, item.getVersion());
+                writer.write('\n');
+            }
+            writer.flush();
+            after = slice.getNextCursor();
+        } while (after != null);
+    }
+
+    /* null 은 빈 칸, 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싼다. (RFC 4180) */
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,226 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ValidationMetrics {
+/**
+ * 검증 지표
+ *  item_validation_rejections_total{constraint, field}: 제약(오류 코드), 필드별 검증 오류 수 (객체 오류는 field="")
+ *  item_validation_seconds{endpoint}: 엔드포인트별 검증 시간 히스토그램 (요청 메서드 + 매핑 경로)
+ *
+ * 기록은 LongAdder (스레드별로 나눠서 더함 -> 요청이 몰려도 경합 없음)
+ * 조회: GET /validation/api/items/metrics (Prometheus text 형식)
+ *
+ * 사용
+ *  @Validated: @InitBinder 에서 validationMetrics.apply(dataBinder)
+ *  직접 검증: validationMetrics.validate(validator, form, bindingResult)
+ * */
+
+    /* 히스토그램 구간 상한 (ns) 10us ~ 100ms */
+    static final long[] BUCKET_BOUNDS = {
+            10_000, 25_000, 50_000, 100_000, 250_000, 500_000,
+            1_000_000, 2_500_000, 5_000_000, 10_000_000, 25_000_000, 50_000_000, 100_000_000};
+
+    static final String NO_ENDPOINT = "-";
+
+    /* 오류 코드 -> 필드 -> 수 (key 객체를 만들지 않도록 2단계) */
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> rejections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * @InitBinder 에서 호출 -> 이 바인더의 검증기(@Validated 처리)를 측정하도록 바꾼다.
+     * 검증 결과 캐시를 쓰면 그 다음에 호출 (캐시 적중도 측정)
+     * */
+    public void apply(WebDataBinder dataBinder) {
+        if (dataBinder.getTarget() == null || dataBinder.getValidators().isEmpty()) {
+            return;
+        }
+        List<Validator> validators = new ArrayList<>(dataBinder.getValidators().size());
+        for (Validator validator : dataBinder.getValidators()) {
+            validators.add(new MeteredValidator(validator));
+        }
+        dataBinder.replaceValidators(validators.toArray(new Validator[0]));
+    }
+
+    /**
+     * 직접 검증할 때 (@Validated 를 쓰지 않는 엔드포인트)
+     * */
+    public void validate(Validator validator, Object target, Errors errors, Object... validationHints) {
+        validate(currentEndpoint(), validator, target, errors, validationHints);
+    }
+
+    /**
+     * 요청 스레드 밖에서 검증할 때 (논블로킹 콜백 등) -> 엔드포인트 이름을 직접 넘긴다.
+     * */
+    public void validate(String endpoint, Validator validator, Object target, Errors errors, Object... validationHints) {
+        //getAllErrors 는 구현에 따라 객체 오류가 먼저 -> 객체 오류, 필드 오류 수를 따로 기억해서 각각 새로 생긴 것만 센다.
+        int globalBefore = errors.getGlobalErrorCount();
+        int fieldBefore = errors.getFieldErrorCount();
+        long start = System.nanoTime();
+        if (validator instanceof SmartValidator) {
+            ((SmartValidator) validator).validate(target, errors, validationHints);
+        } else {
+            validator.validate(target, errors);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        latencies.computeIfAbsent(endpoint, key -> new Histogram()).record(elapsed);
+        if (errors.getGlobalErrorCount() > globalBefore) {
+            List<ObjectError> globalErrors = errors.getGlobalErrors();
+            for (int i = globalBefore; i < globalErrors.size(); i++) {
+                increment(codeOf(globalErrors.get(i)), "");
+            }
+        }
+        if (errors.getFieldErrorCount() > fieldBefore) {
+            List<FieldError> fieldErrors = errors.getFieldErrors();
+            for (int i = fieldBefore; i < fieldErrors.size(); i++) {
+                increment(codeOf(fieldErrors.get(i)), fieldErrors.get(i).getField());
+            }
+        }
+    }
+
+    private static String codeOf(ObjectError error) {
+        return error.getCode() == null ? "" : error.getCode();
+    }
+
+    public long getRejectionCount(String code, String field) {
+        Map<String, LongAdder> fields = rejections.get(code);
+        LongAdder count = fields == null ? null : fields.get(field);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getValidationCount(String endpoint) {
+        Histogram histogram = latencies.get(endpoint);
+        return histogram == null ? 0 : histogram.count();
+    }
+
+    /**
+     * Prometheus text 형식 (version 0.0.4), 이름순
+     * */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(1024);
+        out.append("# HELP item_validation_rejections_total 제약, 필드별 검증 오류 수\n");
+        out.append("# TYPE item_validation_rejections_total counter\n");
+        for (Map.Entry<String, ConcurrentMap<String, LongAdder>> code : new TreeMap<>(rejections).entrySet()) {
+            for (Map.Entry<String, LongAdder> field : new TreeMap<>(code.getValue()).entrySet()) {
+                out.append("item_validation_rejections_total{constraint=\"").append(escape(code.getKey()))
+                        .append("\",field=\"").append(escape(field.getKey())).append("\"} ")
+                        .append(field.getValue().sum()).append('\n');
+            }
+        }
+
+        out.append("# HELP item_validation_seconds 엔드포인트별 검증 시간\n");
+        out.append("# TYPE item_validation_seconds histogram\n");
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(latencies).entrySet()) {
+            entry.getValue().writeTo(out, escape(entry.getKey()));
+        }
+        return out.toString();
+    }
+
+    private void increment(String code, String field) {
+        rejections.computeIfAbsent(code, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(field, key -> new LongAdder())
+                .increment();
+    }
+
+    /* 현재 요청의 "메서드 매핑경로" (요청 밖이면 "-") */
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return NO_ENDPOINT;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class Histogram {
+        /* 구간별 수 (누적 아님, 마지막은 100ms 초과) */
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+        private final LongAdder sumNanos = new LongAdder();
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long nanos) {
+            int i = 0;
+            while (i < BUCKET_BOUNDS.length && nanos > BUCKET_BOUNDS[i]) {
+                i++;
+            }
+            buckets[i].increment();
+            sumNanos.add(nanos);
+        }
+
+        private long count() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        private void writeTo(StringBuilder out, String endpoint) {
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i].sum();
+                out.append("item_validation_seconds_bucket{endpoint=\"").append(endpoint).append("\",le=\"")
+                        .append(i < BUCKET_BOUNDS.length ? Double.toString(BUCKET_BOUNDS[i] / 1e9) : "+Inf")
+                        .append("\"} ").append(cumulative).append('\n');
+            }
+            out.append("item_validation_seconds_sum{endpoint=\"").append(endpoint).append("\"} ")
+                    .append(sumNanos.sum() / 1e9).append('\n');
+            out.append("item_validation_seconds_count{endpoint=\"").append(endpoint).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+    }
+
+    private class MeteredValidator implements SmartValidator {
+        private final Validator delegate;
+
+        MeteredValidator(Validator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return delegate.supports(clazz);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            ValidationMetrics.this.validate(delegate, target, errors);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            ValidationMetrics.this.validate(delegate, target, errors, validationHints);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.ValidationCacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.AbstractBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class ValidationResultCache {
+/**
+ * 같은 폼을 반복해서 보내는 요청(재시도 등)의 검증 결과 캐시 (item.validation.cache.enabled=true 일 때만)
+ *
+ * key: 폼 클래스 + 객체 이름 + 검증 그룹 + 검증기 + 요청 locale + 폼의 값들 (바인딩이 끝난 값)
+ *   ㄴ 오류의 기본 메시지는 검증한 요청의 locale 로 보간되어 있으므로 locale 이 다르면 다른 key
+ *   ㄴ 해시가 같아도 값을 전부 비교 -> 다른 폼의 결과를 돌려주는 일은 없다.
+ *   ㄴ 값이 문자열/숫자/boolean/enum 이 아닌 필드가 있으면 캐시하지 않는다. (나중에 바뀔 수 있는 값)
+ * value: 검증 결과 (오류 목록, 통과면 빈 목록)
+ * 최대 max-size 개, ttl-seconds 가 지나면 다시 검증
+ *   ㄴ 조회/저장은 잠금 없이 (ConcurrentHashMap) -> 요청마다 하나의 락을 기다리지 않는다.
+ *   ㄴ max-size 를 넘으면 한 스레드만 정리: 가장 오래 안 쓴 것부터 max-size 의 1/EVICTION_DIVISOR 개를 한번에 제거
+ *
+ * 바인딩 오류(typeMismatch)가 이미 있으면 결과가 달라지므로 캐시하지 않는다.
+ * */
+
+    @Value("${item.validation.cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${item.validation.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${item.validation.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private static final int EVICTION_DIVISOR = 10;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /* 클래스별 getter 목록 (한번만 찾는다) */
+    private final ConcurrentMap<Class<?>, Method[]> getters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public ValidationResultCache() {
+    }
+
+    public ValidationResultCache(int maxSize, long ttlSeconds) {
+        this.enabled = true;
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @InitBinder 에서 호출 -> 이 바인더의 검증기(@Validated 처리)를 캐시를 거치도록 바꾼다.
+     * */
+    public void apply(WebDataBinder dataBinder) {
+        if (!enabled || dataBinder.getTarget() == null || dataBinder.getValidators().isEmpty()) {
+            return;
+        }
+        List<Validator> validators = new ArrayList<>(dataBinder.getValidators().size());
+        for (Validator validator : dataBinder.getValidators()) {
+            validators.add(wrap(validator));
+        }
+        dataBinder.replaceValidators(validators.toArray(new Validator[0]));
+    }
+
+    public SmartValidator wrap(Validator validator) {
+        return new CachedValidator(validator);
+    }
+
+    /**
+     * 직접 검증할 때 (@Validated 를 쓰지 않는 엔드포인트)
+     * */
+    public void validate(Validator validator, Object target, Errors errors, Object... validationHints) {
+        if (!enabled || errors.hasErrors() || !(errors instanceof AbstractBindingResult)) {
+            doValidate(validator, target, errors, validationHints);
+            return;
+        }
+        Object[] values = values(target);
+        if (values == null) {
+            doValidate(validator, target, errors, validationHints);
+            return;
+        }
+
+        Key key = new Key(validator, target.getClass(), errors.getObjectName(), validationHints, LocaleContextHolder.getLocale(), values);
+        List<ObjectError> cached = get(key);
+        if (cached != null) {
+            hits.increment();
+            AbstractBindingResult bindingResult = (AbstractBindingResult) errors;
+            for (ObjectError error : cached) {
+                bindingResult.addError(error);
+            }
+            return;
+        }
+
+        misses.increment();
+        doValidate(validator, target, errors, validationHints);
+        put(key, errors.hasErrors() ? List.copyOf(errors.getAllErrors()) : Collections.emptyList());
+    }
+
+    public ValidationCacheStats getStats() {
+        return new ValidationCacheStats(enabled, entries.size(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private static void doValidate(Validator validator, Object target, Errors errors, Object[] validationHints) {
+        if (validator instanceof SmartValidator) {
+            ((SmartValidator) validator).validate(target, errors, validationHints);
+        } else {
+            validator.validate(target, errors);
+        }
+    }
+
+    private List<ObjectError> get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (entry.expiresAt - now < 0) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            return null;
+        }
+        entry.lastUsed = now;
+        return entry.errors;
+    }
+
+    private void put(Key key, List<ObjectError> errors) {
+        long now = System.nanoTime();
+        entries.put(key, new Entry(errors, now + TimeUnit.SECONDS.toNanos(ttlSeconds), now));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /* 가장 오래 안 쓴 것부터 제거 (다른 스레드가 정리 중이면 넘어간다) */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int count = Math.max(entries.size() - maxSize, maxSize / EVICTION_DIVISOR);
+            if (count <= 0 || entries.size() <= maxSize) {
+                return;
+            }
+            //정리하는 동안 사용된 것은 lastUsed 가 커져서 남는다.
+            long[] lastUsed = entries.values().stream().mapToLong(entry -> entry.lastUsed).sorted().toArray();
+            long threshold = lastUsed[Math.min(count, lastUsed.length) - 1];
+            for (Map.Entry<Key, Entry> eldest : entries.entrySet()) {
+                if (count == 0) {
+                    break;
+                }
+                if (eldest.getValue().lastUsed <= threshold && entries.remove(eldest.getKey(), eldest.getValue())) {
+                    evictions.increment();
+                    count--;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /* 폼의 값 (getter 순서), 캐시할 수 없는 값이 있으면 null */
+    private Object[] values(Object target) {
+        Method[] readMethods = getters.computeIfAbsent(target.getClass(), ValidationResultCache::findGetters);
+        Object[] values = new Object[readMethods.length];
+        try {
+            for (int i = 0; i < readMethods.length; i++) {
+                Object value = readMethods[i].invoke(target);
+                if (!isImmutable(value)) {
+                    return null;
+                }
+                values[i] = value;
+            }
+        } catch (ReflectiveOperationException e) {
+            log.warn("검증 캐시 key 생성 실패 target={}", target.getClass(), e);
+            return null;
+        }
+        return values;
+    }
+
+    private static Method[] findGetters(Class<?> type) {
+        List<Method> readMethods = new ArrayList<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            Method readMethod = descriptor.getReadMethod();
+            if (readMethod != null && readMethod.getDeclaringClass() != Object.class) {
+                readMethods.add(readMethod);
+            }
+        }
+        return readMethods.toArray(new Method[0]);
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Enum || value instanceof Character
+                || value instanceof Short || value instanceof Byte || value instanceof Double || value instanceof Float;
+    }
+
+    private class CachedValidator implements SmartValidator {
+        private final Validator delegate;
+
+        CachedValidator(Validator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return delegate.supports(clazz);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            ValidationResultCache.this.validate(delegate, target, errors);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            ValidationResultCache.this.validate(delegate, target, errors, validationHints);
+        }
+    }
+
+    private static final class Entry {
+        private final List<ObjectError> errors;
+        private final long expiresAt;
+        private volatile long lastUsed;
+
+        private Entry(List<ObjectError> errors, long expiresAt, long lastUsed) {
+            this.errors = errors;
+            this.expiresAt = expiresAt;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private static final class Key {
+        private final Validator validator; //같은 인스턴스만 같은 key
+        private final Class<?> type;
+        private final String objectName;
+        private final Object[] hints;
+        private final Locale locale;
+        private final Object[] values;
+        private final int hash;
+
+        private Key(Validator validator, Class<?> type, String objectName, Object[] hints, Locale locale, Object[] values) {
+            this.validator = validator;
+            this.type = type;
+            this.objectName = objectName;
+            this.hints = hints == null ? new Object[0] : hints;
+            this.locale = locale;
+            this.values = values;
+            int result = System.identityHashCode(validator);
+            result = 31 * result + type.hashCode();
+            result = 31 * result + objectName.hashCode();
+            result = 31 * result + Arrays.hashCode(this.hints);
+            result = 31 * result + locale.hashCode();
+            this.hash = 31 * result + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash && validator == key.validator && type == key.type
+                    && objectName.equals(key.objectName) && Arrays.equals(hints, key.hints) && locale.equals(key.locale) && Arrays.equals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
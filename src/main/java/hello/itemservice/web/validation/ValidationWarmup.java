@@ -0,0 +1,208 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.form.ValidationError;
+import hello.itemservice.web.validation.form.WarmupReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.WebDataBinder;
+
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValidationWarmup implements ApplicationRunner {
+/**
+ * 시작할 때 검증에 필요한 것들을 미리 만들어 둔다. (배포 직후 첫 요청만 몇 배 느린 문제)
+ * Hibernate Validator 는 클래스 메타데이터, ConstraintValidator, 메시지 보간을 처음 검증할 때 만든다.
+ *
+ * 단계 (순서대로, 단계별 시간은 WarmupReport 로 확인)
+ *  metadata: 폼 클래스별 제약 메타데이터
+ *  binder: 문자열 -> 필드 타입 변환, 바인딩 오류(typeMismatch) 코드
+ *  validation: ConstraintValidator 생성, 로케일별 메시지 보간, 오류 코드 생성 (fail-fast 검증기 포함)
+ *  messages: 오류 메시지 (errors.properties, 로케일별)
+ *  json: api 요청 역직렬화, 오류 응답 직렬화
+ *
+ * ApplicationRunner 라서 끝나기 전에는 준비 상태(ReadinessState.ACCEPTING_TRAFFIC)가 되지 않는다.
+ * 준비 확인: GET /validation/api/items/warmup (끝나기 전에는 503)
+ * 예열에 실패해도 첫 요청이 느릴 뿐이라 시작은 막지 않는다. (로그만 남김)
+ * item.validation.warmup.enabled=false 이면 하지 않는다.
+ * */
+
+    private static final List<Target> TARGETS = List.of(
+            new Target(ItemSaveForm.class, "item"),             //v4 add
+            new Target(ItemUpdateForm.class, "item"),           //v4 edit
+            new Target(ItemSaveForm.class, "itemSaveForm"),     //api add, batch
+            new Target(Item.class, "item", SaveCheck.class),    //v3 add
+            new Target(Item.class, "item", UpdateCheck.class)); //v3 edit
+
+    /* 오류가 나는 경우를 골고루 (비어있음, 범위 밖, 총액 미달, 타입 오류, 정상) */
+    private static final List<Map<String, String>> SAMPLES = List.of(
+            Map.of(),
+            Map.of("itemName", " ", "price", "10", "quantity", "10000"),
+            Map.of("id", "1", "itemName", "itemA", "price", "1000", "quantity", "1", "version", "0"),
+            Map.of("itemName", "itemA", "price", "abc", "quantity", "10"),
+            Map.of("id", "1", "itemName", "itemA", "price", "10000", "quantity", "10", "version", "0"));
+
+    private static final List<Locale> LOCALES = List.of(Locale.KOREA, Locale.ENGLISH);
+
+    private static final String JSON_SAMPLE = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}";
+
+    private final Validator validator;
+    private final FailFastValidator failFastValidator;
+    private final MessageSource messageSource;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ObjectMapper objectMapper;
+
+    @Value("${item.validation.warmup.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile WarmupReport report = WarmupReport.notReady();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            log.warn("검증 예열 실패 (첫 요청이 느릴 수 있음)", e);
+            report = new WarmupReport(true, Collections.emptyMap(), 0);
+        }
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    public WarmupReport warmUp() {
+        if (!enabled) {
+            report = new WarmupReport(true, Collections.emptyMap(), 0);
+            return report;
+        }
+        Map<String, Long> phases = new LinkedHashMap<>();
+        long start = System.nanoTime();
+        long phaseStart = start;
+
+        for (Target target : TARGETS) {
+            validator.getConstraintsForClass(target.type);
+        }
+        phaseStart = record(phases, "metadata", phaseStart);
+
+        List<Bound> bounds = new ArrayList<>(TARGETS.size() * SAMPLES.size());
+        for (Target target : TARGETS) {
+            for (Map<String, String> sample : SAMPLES) {
+                bounds.add(new Bound(target, bind(target, sample)));
+            }
+        }
+        phaseStart = record(phases, "binder", phaseStart);
+
+        validate(bounds);
+        phaseStart = record(phases, "validation", phaseStart);
+
+        List<List<ValidationError>> errors = new ArrayList<>(bounds.size() * LOCALES.size());
+        for (Bound bound : bounds) {
+            for (Locale locale : LOCALES) {
+                errors.add(ValidationError.of(bound.result.getAllErrors(), messageSource, locale));
+            }
+        }
+        phaseStart = record(phases, "messages", phaseStart);
+
+        try {
+            ItemSaveForm form = objectMapper.readValue(JSON_SAMPLE, ItemSaveForm.class);
+            objectMapper.writeValueAsString(form);
+            objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("json 예열 실패", e);
+        }
+        record(phases, "json", phaseStart);
+
+        report = new WarmupReport(true, phases, (System.nanoTime() - start) / 1_000_000);
+        log.info("검증 예열 완료 total={}ms, phases={}", report.getTotalMillis(), phases);
+        return report;
+    }
+
+    private BindingResult bind(Target target, Map<String, String> sample) {
+        WebDataBinder binder = new WebDataBinder(BeanUtils.instantiateClass(target.type), target.objectName);
+        binder.setMessageCodesResolver(messageCodesResolver);
+        binder.bind(new MutablePropertyValues(sample));
+        return binder.getBindingResult();
+    }
+
+    private void validate(List<Bound> bounds) {
+        //메시지 보간은 LocaleContextHolder 의 로케일로 (요청마다 다름)
+        LocaleContext previous = LocaleContextHolder.getLocaleContext();
+        try {
+            for (Locale locale : LOCALES) {
+                LocaleContextHolder.setLocale(locale);
+                for (Bound bound : bounds) {
+                    validator.validate(bound.result.getTarget(), bound.target.groups);
+                }
+            }
+        } finally {
+            LocaleContextHolder.setLocaleContext(previous);
+        }
+
+        SpringValidatorAdapter springValidator = new ItemValidatorAdapter(validator);
+        for (Bound bound : bounds) {
+            springValidator.validate(bound.result.getTarget(), bound.result, (Object[]) bound.target.groups);
+            if (bound.target.type == ItemSaveForm.class) {
+                BeanPropertyBindingResult result = new BeanPropertyBindingResult(bound.result.getTarget(), bound.target.objectName);
+                result.setMessageCodesResolver(messageCodesResolver);
+                failFastValidator.validate(bound.result.getTarget(), result);
+            }
+        }
+    }
+
+    private static long record(Map<String, Long> phases, String phase, long phaseStart) {
+        long now = System.nanoTime();
+        phases.put(phase, (now - phaseStart) / 1_000_000);
+        return now;
+    }
+
+    private static final class Target {
+        private final Class<?> type;
+        private final String objectName;
+        private final Class<?>[] groups;
+
+        private Target(Class<?> type, String objectName, Class<?>... groups) {
+            this.type = type;
+            this.objectName = objectName;
+            this.groups = groups;
+        }
+    }
+
+    private static final class Bound {
+        private final Target target;
+        private final BindingResult result;
+
+        private Bound(Target target, BindingResult result) {
+            this.target = target;
+            this.result = result;
+        }
+    }
+}
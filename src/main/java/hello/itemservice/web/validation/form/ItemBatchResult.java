@@ -0,0 +1,27 @@
+package hello.itemservice.web.validation.form;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class ItemBatchResult {
+/**
+ * 일괄 등록 응답 vo
+ * savedIds: 저장된 item id (요청 순서)
+ * errors: 검증에 실패한 요청 index -> 오류 목록 (ValidationError 형식)
+ * */
+    private final List<Long> savedIds = new ArrayList<>();
+    private final Map<Integer, List<ValidationError>> errors = new LinkedHashMap<>();
+
+    public void addError(int index, List<ValidationError> validationErrors) {
+        errors.put(index, validationErrors);
+    }
+
+    public void addSavedId(Long id) {
+        savedIds.add(id);
+    }
+}
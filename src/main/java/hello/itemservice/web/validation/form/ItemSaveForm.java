@@ -1,5 +1,7 @@
 package hello.itemservice.web.validation.form;
 
+import hello.itemservice.domain.item.PriceQuantity;
+import hello.itemservice.domain.item.TotalPriceMin;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
 
@@ -8,7 +10,8 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Data
-public class ItemSaveForm {
+@TotalPriceMin
+public class ItemSaveForm implements PriceQuantity {
 /**
  * Save 전용 vo
  *
@@ -1,11 +1,14 @@
 package hello.itemservice.web.validation.form;
+import hello.itemservice.domain.item.PriceQuantity;
+import hello.itemservice.domain.item.TotalPriceMin;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Data
-public class ItemUpdateForm {
+@TotalPriceMin
+public class ItemUpdateForm implements PriceQuantity {
 /***
  * Edit 전용 vo
  *
@@ -24,4 +27,8 @@ public class ItemUpdateForm {
     @NotNull(message = "null x")
     //수량은 자유
     private Integer quantity;
+
+    @NotNull
+    //수정 화면을 열었을 때의 item 버전 (그 사이 다른 사람이 수정했는지 확인)
+    private Integer version;
 }
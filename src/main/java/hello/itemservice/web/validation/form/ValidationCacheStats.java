@@ -0,0 +1,31 @@
+package hello.itemservice.web.validation.form;
+
+import lombok.Getter;
+
+@Getter
+public class ValidationCacheStats {
+/**
+ * 검증 결과 캐시 상태 (크기 조정용)
+ * hitRate = hits / (hits + misses)
+ * */
+    private final boolean enabled;
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public ValidationCacheStats(boolean enabled, int size, int maxSize, long hits, long misses, long evictions) {
+        this.enabled = enabled;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,101 @@
+package hello.itemservice.web.validation.form;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.Getter;
+import org.springframework.context.MessageSource;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Getter
+@JsonSerialize(using = ValidationError.Serializer.class)
+public class ValidationError {
+/**
+ * api 오류 응답 (ObjectError / FieldError 를 그대로 직렬화하지 않는다)
+ *   ㄴ codes 배열, arguments, DefaultMessageSourceResolvable 내부 값까지 나가서 오류 하나에 수 KB
+ *
+ * {"field":"price","code":"Range","message":"가격은 1,000 ~ 1,000,000 까지 허용합니다.","rejectedValue":10}
+ *  field: 오류 필드 (객체 오류면 null)
+ *  code: 오류 코드 (Range, NotBlank, totalPriceMin ...)
+ *  message: 요청 locale 로 찾은 메시지 (errors.properties)
+ *  rejectedValue: 거절된 값 (객체 오류면 null)
+ *
+ * 직렬화는 Serializer 가 필드를 순서대로 바로 쓴다. (bean 조회 없음)
+ * */
+
+    private final String field;
+    private final String code;
+    private final String message;
+    private final Object rejectedValue;
+
+    public ValidationError(String field, String code, String message, Object rejectedValue) {
+        this.field = field;
+        this.code = code;
+        this.message = message;
+        this.rejectedValue = rejectedValue;
+    }
+
+    public static ValidationError of(ObjectError error, MessageSource messageSource, Locale locale) {
+        String message = messageSource.getMessage(error, locale);
+        if (error instanceof FieldError) {
+            FieldError fieldError = (FieldError) error;
+            return new ValidationError(fieldError.getField(), error.getCode(), message, fieldError.getRejectedValue());
+        }
+        return new ValidationError(null, error.getCode(), message, null);
+    }
+
+    public static List<ValidationError> of(List<ObjectError> errors, MessageSource messageSource, Locale locale) {
+        List<ValidationError> result = new ArrayList<>(errors.size());
+        for (ObjectError error : errors) {
+            result.add(of(error, messageSource, locale));
+        }
+        return result;
+    }
+
+    /* 스트리밍 응답(가져오기 등)에서 직접 쓸 때도 사용 */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("field", field);
+        generator.writeStringField("code", code);
+        generator.writeStringField("message", message);
+        generator.writeFieldName("rejectedValue");
+        writeValue(generator, rejectedValue);
+        generator.writeEndObject();
+    }
+
+    /* 폼 값은 문자열/숫자/null 뿐 -> 그 외는 문자열로 */
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Number) {
+            generator.writeNumber(value.toString());
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    public static class Serializer extends StdSerializer<ValidationError> {
+
+        public Serializer() {
+            super(ValidationError.class);
+        }
+
+        @Override
+        public void serialize(ValidationError error, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            error.writeTo(generator);
+        }
+    }
+}
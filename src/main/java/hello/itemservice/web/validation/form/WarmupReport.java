@@ -0,0 +1,30 @@
+package hello.itemservice.web.validation.form;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+public class WarmupReport {
+/**
+ * 검증 예열 결과 vo
+ * ready: 예열이 끝났는지 (끝나기 전에는 첫 요청이 느리다)
+ * phases: 단계 이름 -> 걸린 시간(ms), 실행 순서대로
+ * totalMillis: 전체 걸린 시간(ms)
+ * */
+    private final boolean ready;
+    private final Map<String, Long> phases;
+    private final long totalMillis;
+
+    public WarmupReport(boolean ready, Map<String, Long> phases, long totalMillis) {
+        this.ready = ready;
+        this.phases = Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+        this.totalMillis = totalMillis;
+    }
+
+    public static WarmupReport notReady() {
+        return new WarmupReport(false, Collections.emptyMap(), 0);
+    }
+}
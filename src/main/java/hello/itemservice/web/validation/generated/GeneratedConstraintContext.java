@@ -0,0 +1,111 @@
+package hello.itemservice.web.validation.generated;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintValidator;
+import javax.validation.ValidationException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class GeneratedConstraintContext implements HibernateConstraintValidatorContext {
+/**
+ * 생성된 검증기가 클래스 레벨 제약의 검증기(@Constraint(validatedBy))를 직접 호출할 때 넘기는 context
+ * 기본 위반 하나만 지원한다. (Bean Validation 과 같은 결과)
+ *   ㄴ addMessageParameter -> 기본 메시지의 {이름}
+ *   ㄴ withDynamicPayload(Object[]) -> 오류 인자 (ItemValidatorAdapter 와 같음)
+ * 위반을 직접 만드는 검증기(buildConstraintViolationWithTemplate, EL 변수)는 컴파일 시점에 알 수 없다.
+ *   ㄴ 호출하면 UnsupportedConstraintException -> GeneratedValidatorRegistry 가 그 클래스를 Bean Validation 으로 검증 (이후 요청도)
+ *   ㄴ 생성된 코드는 클래스 레벨 검증기를 오류를 추가하기 전에 먼저 호출하므로 fallback 해도 오류가 중복되지 않는다.
+ * 검증 한번에 하나씩 만들어서 쓴다. (스레드 안전하지 않음)
+ * */
+
+    private final String messageTemplate;
+    private final List<Object> messageParameters = new ArrayList<>(2);
+    private Object dynamicPayload;
+
+    public GeneratedConstraintContext(String messageTemplate) {
+        this.messageTemplate = messageTemplate;
+    }
+
+    /**
+     * 클래스 레벨 제약 검증 (생성된 코드에서 호출)
+     * @return 위반이면 오류 인자/메시지를 가진 context, 통과하면 null
+     * */
+    public static <T> GeneratedConstraintContext violation(ConstraintValidator<?, T> validator, T target, String messageTemplate) {
+        GeneratedConstraintContext context = new GeneratedConstraintContext(messageTemplate);
+        return validator.isValid(target, context) ? null : context;
+    }
+
+    /**
+     * 오류 인자: 검증기가 Object[] 를 dynamic payload 로 넘겼으면 그것, 아니면 기본 인자
+     * */
+    public Object[] arguments(Object... defaultArguments) {
+        return dynamicPayload instanceof Object[] ? (Object[]) dynamicPayload : defaultArguments;
+    }
+
+    /**
+     * 기본 메시지: 검증기가 추가한 메시지 파라미터가 어노테이션 속성보다 먼저
+     * @param attributes 이름, 값, 이름, 값 ...
+     * */
+    public String message(Object... attributes) {
+        if (messageParameters.isEmpty()) {
+            return GeneratedValidator.message(messageTemplate, attributes);
+        }
+        List<Object> parameters = new ArrayList<>(messageParameters);
+        parameters.addAll(List.of(attributes));
+        return GeneratedValidator.message(messageTemplate, parameters.toArray());
+    }
+
+    @Override
+    public HibernateConstraintValidatorContext addMessageParameter(String name, Object value) {
+        messageParameters.add(name);
+        messageParameters.add(value);
+        return this;
+    }
+
+    @Override
+    public HibernateConstraintValidatorContext addExpressionVariable(String name, Object value) {
+        throw new UnsupportedConstraintException("addExpressionVariable");
+    }
+
+    @Override
+    public HibernateConstraintValidatorContext withDynamicPayload(Object payload) {
+        this.dynamicPayload = payload;
+        return this;
+    }
+
+    @Override
+    public <C> C getConstraintValidatorPayload(Class<C> type) {
+        return null;
+    }
+
+    @Override
+    public void disableDefaultConstraintViolation() {
+        throw new UnsupportedConstraintException("disableDefaultConstraintViolation");
+    }
+
+    @Override
+    public String getDefaultConstraintMessageTemplate() {
+        return messageTemplate;
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return Clock::systemDefaultZone;
+    }
+
+    @Override
+    public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        throw new UnsupportedConstraintException("buildConstraintViolationWithTemplate");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("지원하지 않는 타입 " + type.getName());
+    }
+}
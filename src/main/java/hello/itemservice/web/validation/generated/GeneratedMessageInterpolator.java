@@ -0,0 +1,86 @@
+package hello.itemservice.web.validation.generated;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class GeneratedMessageInterpolator {
+/**
+ * 생성된 검증기의 기본 메시지 (Bean Validation 메시지 보간과 같은 순서)
+ * 1. {키} -> ValidationMessages(사용자), 없으면 Hibernate Validator 기본 번들에서 현재 locale 메시지
+ *   ㄴ locale 은 LocaleContextHolder (LocalValidatorFactoryBean 의 LocaleContextMessageInterpolator 와 같음)
+ * 2. {속성 이름} -> 어노테이션 속성 값, 메시지 파라미터 값
+ *
+ * 1번 결과는 (locale, 템플릿) 별로 캐시 (오류가 날 때만 호출되지만 번들 조회를 반복하지 않도록)
+ * EL(${...}) 은 지원하지 않는다. (쓰는 제약이 없음)
+ * */
+
+    private static final String USER_BUNDLE = "ValidationMessages";
+    private static final String DEFAULT_BUNDLE = "org.hibernate.validator.ValidationMessages";
+    private static final int MAX_RECURSION = 10;
+
+    private static final ConcurrentMap<Locale, ConcurrentMap<String, String>> resolved = new ConcurrentHashMap<>();
+
+    private GeneratedMessageInterpolator() {
+    }
+
+    /**
+     * @param parameters 이름, 값, 이름, 값 ...
+     * */
+    static String interpolate(String template, Object... parameters) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String message = resolved.computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(template, key -> resolveKeys(key, locale));
+        for (int i = 0; i + 1 < parameters.length; i += 2) {
+            message = message.replace("{" + parameters[i] + "}", String.valueOf(parameters[i + 1]));
+        }
+        return message;
+    }
+
+    /* 번들에 있는 {키} 를 메시지로 (메시지 안의 {키} 도 다시 찾는다) */
+    private static String resolveKeys(String template, Locale locale) {
+        ResourceBundle userBundle = bundle(USER_BUNDLE, locale);
+        ResourceBundle defaultBundle = bundle(DEFAULT_BUNDLE, locale);
+        String message = template;
+        for (int i = 0; i < MAX_RECURSION; i++) {
+            String replaced = replaceKeys(replaceKeys(message, userBundle), defaultBundle);
+            if (replaced.equals(message)) {
+                break;
+            }
+            message = replaced;
+        }
+        return message;
+    }
+
+    private static String replaceKeys(String message, ResourceBundle bundle) {
+        if (bundle == null) {
+            return message;
+        }
+        StringBuilder result = new StringBuilder(message.length());
+        int position = 0;
+        int start;
+        while ((start = message.indexOf('{', position)) >= 0) {
+            int end = message.indexOf('}', start);
+            if (end < 0) {
+                break;
+            }
+            String key = message.substring(start + 1, end);
+            result.append(message, position, start);
+            result.append(bundle.containsKey(key) ? bundle.getString(key) : message.substring(start, end + 1));
+            position = end + 1;
+        }
+        return result.append(message, position, message.length()).toString();
+    }
+
+    private static ResourceBundle bundle(String name, Locale locale) {
+        try {
+            return ResourceBundle.getBundle(name, locale, GeneratedMessageInterpolator.class.getClassLoader());
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+}
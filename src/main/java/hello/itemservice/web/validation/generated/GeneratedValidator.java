@@ -0,0 +1,109 @@
+package hello.itemservice.web.validation.generated;
+
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.AbstractBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.SmartValidator;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.groups.Default;
+import java.lang.annotation.Annotation;
+
+public interface GeneratedValidator extends SmartValidator {
+/**
+ * 컴파일 시점에 생성된 검증기 (validator-processor 의 ValidatorProcessor 가 만든다)
+ * 구현체는 META-INF/services 에 등록되어 GeneratedValidatorRegistry 가 찾아서 사용
+ *
+ * 아래 static 메소드는 생성된 코드에서 호출 -> 오류 코드/인자를 SpringValidatorAdapter 와 같게 만든다.
+ * */
+
+    Object[] NO_HINTS = {};
+
+    /* 검증 대상 클래스 */
+    Class<?> targetType();
+
+    /**
+     * @param failFast true 면 첫번째 오류를 추가하고 멈춘다. (FailFastValidator)
+     * */
+    void validate(Object target, Errors errors, boolean failFast, Object... validationHints);
+
+    /**
+     * 검증 그룹 적용 여부
+     * hints(@Validated 의 그룹)가 없으면 Default 그룹만, 있으면 그 중 하나라도 제약의 그룹에 포함되면 적용
+     * */
+    static boolean isActive(Object[] hints, Class<?>[] groups) {
+        if (hints == null || hints.length == 0) {
+            return contains(groups, Default.class);
+        }
+        for (Object hint : hints) {
+            if (hint instanceof Class && contains(groups, hint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기본 메시지 (Bean Validation 처럼 요청 locale 로 {키}, {속성} 을 바꾼다)
+     * @param parameters 이름, 값, 이름, 값 ...
+     * */
+    static String message(String template, Object... parameters) {
+        return GeneratedMessageInterpolator.interpolate(template, parameters);
+    }
+
+    /* 클래스 레벨 제약의 검증기 초기화 (생성된 클래스의 static 필드, 어노테이션은 시작할 때 한번 읽는다) */
+    static <A extends Annotation, V extends ConstraintValidator<A, ?>> V initialize(V validator, A annotation) {
+        validator.initialize(annotation);
+        return validator;
+    }
+
+    /* 첫번째 오류 인자 = 필드 이름 (label 메시지로 바꿀 수 있게 코드 포함) */
+    static DefaultMessageSourceResolvable fieldArgument(Errors errors, String field) {
+        String path = errors.getNestedPath() + field;
+        return new DefaultMessageSourceResolvable(new String[]{errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + path, path}, path);
+    }
+
+    /**
+     * 필드 오류 추가
+     * 이미 바인딩 실패(typeMismatch)한 필드는 추가하지 않는다. (SpringValidatorAdapter 와 같음)
+     * BindingResult 면 필드 타입을 넘겨서 메시지 코드를 만든다. (BeanWrapper 로 타입을 찾지 않음)
+     * */
+    static void rejectValue(Errors errors, String field, Class<?> fieldType, String code,
+                            Object rejectedValue, Object[] arguments, String defaultMessage) {
+        String path = errors.getNestedPath() + field;
+        FieldError existing = errors.getFieldError(field);
+        if (existing != null && existing.isBindingFailure()) {
+            return;
+        }
+        if (errors instanceof AbstractBindingResult) {
+            AbstractBindingResult bindingResult = (AbstractBindingResult) errors;
+            String[] codes = bindingResult.getMessageCodesResolver()
+                    .resolveMessageCodes(code, errors.getObjectName(), path, fieldType);
+            bindingResult.addError(new FieldError(errors.getObjectName(), path, rejectedValue, false, codes, arguments, defaultMessage));
+            return;
+        }
+        errors.rejectValue(field, code, arguments, defaultMessage);
+    }
+
+    /* 객체 오류 추가 (클래스 레벨 제약) */
+    static void reject(Errors errors, String code, Object[] arguments, String defaultMessage) {
+        if (errors instanceof AbstractBindingResult) {
+            AbstractBindingResult bindingResult = (AbstractBindingResult) errors;
+            String[] codes = bindingResult.getMessageCodesResolver().resolveMessageCodes(code, errors.getObjectName());
+            bindingResult.addError(new ObjectError(errors.getObjectName(), codes, arguments, defaultMessage));
+            return;
+        }
+        errors.reject(code, arguments, defaultMessage);
+    }
+
+    private static boolean contains(Class<?>[] groups, Object group) {
+        for (Class<?> candidate : groups) {
+            if (candidate == group) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
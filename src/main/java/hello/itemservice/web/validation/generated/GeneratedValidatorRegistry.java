@@ -0,0 +1,75 @@
+package hello.itemservice.web.validation.generated;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class GeneratedValidatorRegistry implements SmartValidator {
+/**
+ * 생성된 검증기가 있는 클래스는 생성된 검증기로, 없으면 fallback(Bean Validation)으로 검증
+ * 검증기 목록은 시작할 때 한번만 읽는다.
+ * 클래스 레벨 제약의 검증기가 지원하지 않는 context 기능(직접 만든 위반 등)을 쓰면
+ *   ㄴ 그 클래스는 생성된 검증기를 빼고 fallback 으로 검증한다. (이번 요청부터 계속)
+ * */
+
+    private final Map<Class<?>, GeneratedValidator> validators = new ConcurrentHashMap<>();
+    private final SmartValidator fallback;
+
+    public GeneratedValidatorRegistry(SmartValidator fallback) {
+        this(fallback, GeneratedValidatorRegistry.class.getClassLoader());
+    }
+
+    public GeneratedValidatorRegistry(SmartValidator fallback, ClassLoader classLoader) {
+        this(fallback, ServiceLoader.load(GeneratedValidator.class, classLoader));
+    }
+
+    public GeneratedValidatorRegistry(SmartValidator fallback, Iterable<? extends GeneratedValidator> generatedValidators) {
+        this.fallback = fallback;
+        for (GeneratedValidator validator : generatedValidators) {
+            validators.put(validator.targetType(), validator);
+        }
+        log.info("생성된 검증기 사용 targets={}", validators.keySet());
+    }
+
+    public GeneratedValidator getValidator(Class<?> targetType) {
+        return validators.get(targetType);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return validators.containsKey(clazz) || fallback.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, GeneratedValidator.NO_HINTS);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        validate(target, errors, false, validationHints);
+    }
+
+    /**
+     * @param failFast 생성된 검증기에 넘긴다. (fallback 은 원래 설정대로)
+     * */
+    public void validate(Object target, Errors errors, boolean failFast, Object... validationHints) {
+        GeneratedValidator validator = validators.get(target.getClass());
+        if (validator != null) {
+            try {
+                validator.validate(target, errors, failFast, validationHints);
+                return;
+            } catch (UnsupportedConstraintException e) {
+                //검증기가 오류를 추가하기 전에 실패하므로 errors 는 그대로
+                validators.remove(target.getClass());
+                log.warn("생성된 검증기 사용 중지 target={}, {}", target.getClass().getName(), e.getMessage());
+            }
+        }
+        fallback.validate(target, errors, validationHints);
+    }
+}
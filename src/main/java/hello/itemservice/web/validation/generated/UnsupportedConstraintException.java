@@ -0,0 +1,12 @@
+package hello.itemservice.web.validation.generated;
+
+class UnsupportedConstraintException extends RuntimeException {
+/**
+ * 클래스 레벨 제약의 검증기가 GeneratedConstraintContext 로 만들 수 없는 위반을 만들려고 할 때
+ * GeneratedValidatorRegistry 가 잡아서 Bean Validation 으로 다시 검증한다.
+ * */
+
+    UnsupportedConstraintException(String operation) {
+        super("생성된 검증기에서 지원하지 않는 ConstraintValidatorContext 사용: " + operation, null, false, false);
+    }
+}
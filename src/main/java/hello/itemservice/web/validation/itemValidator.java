@@ -1,6 +1,7 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.TotalPriceMinValidator;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
@@ -44,9 +45,9 @@ public class itemValidator implements Validator {
             errors.rejectValue("quantity","max", new Object[]{9999}, null);
         }
 
-        //특정 필드가 아닌 복합 룰 검증
+        //특정 필드가 아닌 복합 룰 검증 (@TotalPriceMin 과 같은 계산, long 이라 넘치지 않음)
         if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = TotalPriceMinValidator.totalPrice(item.getPrice(), item.getQuantity());
             if(resultPrice < 10000) {
                 errors.reject("totalPriceMin", new Object[]{10000,resultPrice},null);
             }
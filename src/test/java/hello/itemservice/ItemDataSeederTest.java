@@ -0,0 +1,56 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.ColumnarItemRepository;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemDataSeederTest {
+
+    ItemRepository itemRepository = new ColumnarItemRepository();
+
+    @Test
+    void seed() {
+        //given
+        ItemDataSeeder seeder = new ItemDataSeeder(itemRepository);
+        seeder.setMinPrice(1000);
+        seeder.setMaxPrice(2000);
+        seeder.setMinQuantity(10);
+        seeder.setMaxQuantity(20);
+        seeder.setMinNameLength(5);
+        seeder.setMaxNameLength(8);
+
+        //when
+        int saved = seeder.seed(25_000);
+
+        //then
+        List<Item> items = itemRepository.findAll();
+        assertThat(saved).isEqualTo(25_000);
+        assertThat(items).hasSize(25_000);
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getPrice()).isBetween(1000, 2000);
+            assertThat(item.getQuantity()).isBetween(10, 20);
+            assertThat(item.getItemName().length()).isBetween(5, 8);
+        });
+    }
+
+    @Test
+    void normalDistribution() {
+        //given
+        ItemDataSeeder seeder = new ItemDataSeeder(itemRepository);
+        seeder.setDistribution("normal");
+        seeder.setMinPrice(0);
+        seeder.setMaxPrice(6000);
+
+        //when
+        seeder.seed(20_000);
+
+        //then 평균 +- 표준편차(1000) 안에 약 68%
+        long nearMean = itemRepository.findByPriceBetween(2000, 4000).size();
+        assertThat(nearMean).isBetween(12_000L, 15_000L);
+    }
+}
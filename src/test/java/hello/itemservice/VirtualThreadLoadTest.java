@@ -0,0 +1,150 @@
+package hello.itemservice;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 톰캣 스레드 풀 vs 가상 스레드 부하 비교 (./gradlew benchmark -PruntimeJava=21 로 실행)
+ * 저장은 WAL(fsync=always) 을 거쳐서 디스크를 기다리는 요청으로 만든다.
+ * 동시 요청 CONCURRENCY 개를 계속 유지 (응답이 오면 바로 다음 요청) -> 처리량, p99
+ * Java 21 미만이면 스레드 풀만 측정
+ * 결과는 장비(코어 수, 디스크 fsync 속도)에 따라 크게 달라서 저장소에 기록하지 않는다. 비교할 때는 같은 장비에서 직접 실행
+ * */
+@Tag("benchmark")
+class VirtualThreadLoadTest {
+
+    static final int CONCURRENCY = 1000;
+    static final Duration WARMUP = Duration.ofSeconds(3);
+    static final Duration MEASURE = Duration.ofSeconds(10);
+    static final int MAX_SAMPLES = 5_000_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareThroughput() throws Exception {
+        System.out.printf("%-10s %-36s %12s %10s %8s%n", "threads", "endpoint", "req/s", "p99(ms)", "errors");
+        run("platform", false);
+        if (Runtime.version().feature() >= 21) {
+            run("virtual", true);
+        } else {
+            System.out.printf("%-10s (Java 21 이상에서 실행, 현재 java=%s)%n", "virtual", Runtime.version());
+        }
+    }
+
+    private void run(String mode, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ItemServiceApplication.class)
+                .properties("server.port=0",
+                        "item.server.virtual-threads=" + virtualThreads,
+                        "item.wal.enabled=true",
+                        "item.wal.path=" + tempDir.resolve(mode + ".wal"),
+                        "item.wal.fsync=always",
+                        "logging.level.hello.itemservice=warn")
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            for (Map.Entry<String, HttpRequest> entry : requests(port).entrySet()) {
+                new Load(client, entry.getValue(), WARMUP).run();
+                Load load = new Load(client, entry.getValue(), MEASURE);
+                load.run();
+                System.out.printf("%-10s %-36s %10d/s %10.2f %8d%n",
+                        mode, entry.getKey(), load.requestsPerSecond(), load.p99Millis(), load.errors.get());
+            }
+        }
+    }
+
+    private static Map<String, HttpRequest> requests(int port) {
+        Map<String, HttpRequest> requests = new LinkedHashMap<>();
+        requests.put("POST /validation/v4/items/add", HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/validation/v4/items/add"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("itemName=itemA&price=10000&quantity=10"))
+                .build());
+        requests.put("POST /validation/api/items/batch", HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/validation/api/items/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("[{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10},"
+                        + "{\"itemName\":\"itemB\",\"price\":10,\"quantity\":10}]"))
+                .build());
+        requests.put("POST /validation/api/items/add", HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/validation/api/items/add"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}"))
+                .build());
+        return requests;
+    }
+
+    /* 동시 요청 CONCURRENCY 개를 duration 동안 유지 */
+    private static class Load {
+        private final HttpClient client;
+        private final HttpRequest request;
+        private final Duration duration;
+        private final long[] latencies = new long[MAX_SAMPLES];
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(CONCURRENCY);
+        private long end;
+        private long elapsed;
+
+        Load(HttpClient client, HttpRequest request, Duration duration) {
+            this.client = client;
+            this.request = request;
+            this.duration = duration;
+        }
+
+        void run() throws InterruptedException {
+            long start = System.nanoTime();
+            end = start + duration.toNanos();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                send();
+            }
+            if (!done.await(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("응답이 오지 않는 요청이 있습니다.");
+            }
+            elapsed = System.nanoTime() - start;
+        }
+
+        private void send() {
+            long sent = System.nanoTime();
+            if (sent - end >= 0) {
+                done.countDown();
+                return;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, e) -> {
+                int i = count.getAndIncrement();
+                if (i < latencies.length) {
+                    latencies[i] = System.nanoTime() - sent;
+                }
+                if (e != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                send();
+            });
+        }
+
+        long requestsPerSecond() {
+            return count.get() * 1_000_000_000L / elapsed;
+        }
+
+        double p99Millis() {
+            long[] sorted = Arrays.copyOf(latencies, Math.min(count.get(), latencies.length));
+            Arrays.sort(sorted);
+            return sorted.length == 0 ? 0 : sorted[(int) (sorted.length * 0.99)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarItemRepositoryTest {
+
+    ItemRepository itemRepository = new ColumnarItemRepository();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void save() {
+        //given
+        Item item = new Item("상품A", 10000, 10);
+
+        //when
+        Item savedItem = itemRepository.save(item);
+
+        //then
+        Item findItem = itemRepository.findById(item.getId());
+        assertThat(findItem).isEqualTo(savedItem);
+        assertThat(itemRepository.findById(savedItem.getId() + 1)).isNull();
+    }
+
+    @Test
+    void saveNullValues() {
+        //given
+        Item item = itemRepository.save(new Item());
+
+        //when
+        Item findItem = itemRepository.findById(item.getId());
+
+        //then
+        assertThat(findItem.getItemName()).isNull();
+        assertThat(findItem.getPrice()).isNull();
+        assertThat(findItem.getQuantity()).isNull();
+    }
+
+    @Test
+    void findAllAndSlice() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 10000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 20000, 20));
+        Item item3 = itemRepository.save(new Item("item3", 30000, 30));
+
+        //when
+        List<Item> result = itemRepository.findAll();
+        ItemSlice slice = itemRepository.findSlice(item1.getId(), 1);
+
+        //then
+        assertThat(result).containsExactly(item1, item2, item3);
+        assertThat(slice.getItems()).containsExactly(item2);
+        assertThat(slice.getNextCursor()).isEqualTo(item2.getId());
+    }
+
+    @Test
+    void updateItem() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+
+        //when
+        Item updateParam = new Item("수정된 상품", 20000, 30);
+        itemRepository.update(itemId, updateParam);
+
+        Item findItem = itemRepository.findById(itemId);
+
+        //then
+        assertThat(findItem.getItemName()).isEqualTo(updateParam.getItemName());
+        assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
+        assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
+    }
+
+    @Test
+    void findByPriceBetween() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 30000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 10000, 20));
+        Item item3 = itemRepository.save(new Item("item3", 20000, 30));
+
+        //when
+        List<Item> result = itemRepository.findByPriceBetween(10000, 20000);
+
+        //then
+        assertThat(result).containsExactly(item2, item3);
+    }
+
+    @Test
+    void updateWithVersion() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+        Integer version = savedItem.getVersion();
+
+        //when
+        boolean first = itemRepository.update(itemId, version, new Item("item2", 20000, 20));
+        boolean second = itemRepository.update(itemId, version, new Item("item3", 30000, 30)); //같은 버전으로 다시 수정 -> 충돌
+
+        //then
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getVersion()).isEqualTo(version + 1);
+    }
+}
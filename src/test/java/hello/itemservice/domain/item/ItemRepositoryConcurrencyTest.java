@@ -0,0 +1,106 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemRepositoryConcurrencyTest {
+
+    static final int THREAD_COUNT = 16;
+    static final int ITEMS_PER_THREAD = 5_000;
+
+    ItemRepository itemRepository = new MemoryItemRepository();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void concurrentSave() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                start.await();
+                for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+                    itemRepository.save(new Item("item-" + thread + "-" + i, 10000, 10));
+                }
+                return null;
+            });
+        }
+
+        //when
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        List<Item> result = itemRepository.findAll();
+        Set<Long> ids = result.stream().map(Item::getId).collect(Collectors.toSet());
+        Set<String> names = result.stream().map(Item::getItemName).collect(Collectors.toSet());
+
+        assertThat(result).hasSize(THREAD_COUNT * ITEMS_PER_THREAD);
+        assertThat(ids).hasSize(THREAD_COUNT * ITEMS_PER_THREAD);
+        assertThat(names).hasSize(THREAD_COUNT * ITEMS_PER_THREAD);
+    }
+
+    @Test
+    void concurrentUpdate() throws Exception {
+        //given
+        Item savedItem = itemRepository.save(new Item("item", 10000, 10));
+        Long itemId = savedItem.getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+                    //이름, 가격, 수량을 같은 값으로 묶어서 수정 -> 섞이면 안된다
+                    int value = thread * ITEMS_PER_THREAD + i;
+                    itemRepository.update(itemId, new Item("item" + value, value, value));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(itemRepository.findAll()).hasSize(1);
+        assertThat(findItem.getItemName()).isEqualTo("item" + findItem.getPrice());
+        assertThat(findItem.getQuantity()).isEqualTo(findItem.getPrice());
+        //인덱스에는 마지막 값만 남아야 한다
+        assertThat(itemRepository.findByPriceBetween(0, Integer.MAX_VALUE)).containsExactly(findItem);
+        assertThat(itemRepository.findByQuantityBetween(0, Integer.MAX_VALUE)).containsExactly(findItem);
+    }
+}
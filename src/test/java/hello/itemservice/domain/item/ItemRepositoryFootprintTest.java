@@ -0,0 +1,51 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 저장소 구현체별 힙 사용량 비교 (./gradlew benchmark 로 실행)
+ * */
+@Tag("benchmark")
+class ItemRepositoryFootprintTest {
+
+    static final int ITEM_COUNT = 3_000_000;
+
+    @Test
+    void compareHeapFootprint() {
+        long memory = measure(new MemoryItemRepository());
+        long columnar = measure(new ColumnarItemRepository());
+
+        System.out.println("items = " + ITEM_COUNT);
+        System.out.println("memory   = " + memory / (1024 * 1024) + "MB (" + memory / ITEM_COUNT + " bytes/item)");
+        System.out.println("columnar = " + columnar / (1024 * 1024) + "MB (" + columnar / ITEM_COUNT + " bytes/item)");
+
+        assertThat(columnar).isLessThan(memory);
+    }
+
+    private long measure(ItemRepository itemRepository) {
+        long before = usedHeap();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            itemRepository.save(new Item("item" + i, 1000 + i % 999000, i % 9999));
+        }
+        long after = usedHeap();
+        assertThat(itemRepository.findById((long) ITEM_COUNT)).isNotNull();
+        itemRepository.clearStore();
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
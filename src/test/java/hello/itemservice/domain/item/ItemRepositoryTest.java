@@ -9,7 +9,7 @@ import static org.assertj.core.api.Assertions.*;
 
 class ItemRepositoryTest {
 
-    ItemRepository itemRepository = new ItemRepository();
+    ItemRepository itemRepository = new MemoryItemRepository();
 
     @AfterEach
     void afterEach() {
@@ -29,6 +29,22 @@ class ItemRepositoryTest {
         assertThat(findItem).isEqualTo(savedItem);
     }
 
+    @Test
+    void saveAll() {
+        //given
+        Item item1 = new Item("item1", 10000, 10);
+        Item item2 = new Item("item2", 20000, 20);
+
+        //when
+        List<Item> savedItems = itemRepository.saveAll(List.of(item1, item2));
+
+        //then
+        assertThat(savedItems).containsExactly(item1, item2);
+        assertThat(item2.getId()).isEqualTo(item1.getId() + 1);
+        assertThat(itemRepository.findAll()).containsExactly(item1, item2);
+        assertThat(itemRepository.findByPriceBetween(20000, 20000)).containsExactly(item2);
+    }
+
     @Test
     void findAll() {
         //given
@@ -46,6 +62,59 @@ class ItemRepositoryTest {
         assertThat(result).contains(item1, item2);
     }
 
+    @Test
+    void findAllSnapshot() {
+        //given
+        Item item = itemRepository.save(new Item("item1", 10000, 10));
+        List<Item> before = itemRepository.findAll();
+
+        //when
+        itemRepository.update(item.getId(), new Item("item2", 20000, 20));
+        List<Item> after = itemRepository.findAll();
+
+        //then
+        assertThat(before.get(0).getItemName()).isEqualTo("item1");
+        assertThat(after.get(0).getItemName()).isEqualTo("item2");
+        assertThat(itemRepository.findAll()).isSameAs(after);
+    }
+
+    @Test
+    void findSlice() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 10000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 20000, 20));
+        Item item3 = itemRepository.save(new Item("item3", 30000, 30));
+
+        //when
+        ItemSlice first = itemRepository.findSlice(null, 2);
+        ItemSlice second = itemRepository.findSlice(first.getNextCursor(), 2);
+
+        //then
+        assertThat(first.getItems()).containsExactly(item1, item2);
+        assertThat(first.getNextCursor()).isEqualTo(item2.getId());
+        assertThat(second.getItems()).containsExactly(item3);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findSliceSeesWritesBetweenPages() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 10000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 20000, 20));
+        ItemSlice first = itemRepository.findSlice(null, 1);
+
+        //when
+        itemRepository.update(item2.getId(), new Item("item2-수정", 20000, 20));
+        Item item3 = itemRepository.save(new Item("item3", 30000, 30));
+        ItemSlice second = itemRepository.findSlice(first.getNextCursor(), 10);
+
+        //then
+        assertThat(first.getItems()).containsExactly(item1);
+        assertThat(second.getItems()).extracting(Item::getItemName).containsExactly("item2-수정", "item3");
+        assertThat(second.getItems().get(1)).isEqualTo(item3);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
     @Test
     void updateItem() {
         //given
@@ -65,4 +134,51 @@ class ItemRepositoryTest {
         assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
     }
+
+    @Test
+    void findByPriceBetween() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 30000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 10000, 20));
+        Item item3 = itemRepository.save(new Item("item3", 20000, 30));
+
+        //when
+        List<Item> result = itemRepository.findByPriceBetween(10000, 20000);
+
+        //then
+        assertThat(result).containsExactly(item2, item3);
+    }
+
+    @Test
+    void findByQuantityBetweenAfterUpdate() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 10000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 20000, 20));
+
+        //when
+        itemRepository.update(item1.getId(), new Item("item1", 10000, 100));
+
+        //then
+        assertThat(itemRepository.findByQuantityBetween(0, 50)).containsExactly(item2);
+        assertThat(itemRepository.findByQuantityBetween(50, 100)).containsExactly(item1);
+    }
+
+    @Test
+    void updateWithVersion() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+        Integer version = savedItem.getVersion();
+
+        //when
+        boolean first = itemRepository.update(itemId, version, new Item("item2", 20000, 20));
+        boolean second = itemRepository.update(itemId, version, new Item("item3", 30000, 30)); //같은 버전으로 다시 수정 -> 충돌
+
+        //then
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getVersion()).isEqualTo(version + 1);
+    }
 }
@@ -0,0 +1,59 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 스레드 수에 따른 저장 처리량 비교 (./gradlew benchmark 로 실행)
+ * */
+@Tag("benchmark")
+class ItemRepositoryThroughputTest {
+
+    static final int SAVES_PER_THREAD = 200_000;
+
+    @Test
+    void compareWriteThroughput() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-8s %12s %12s %12s%n", "threads", "memory", "columnar", "sharded");
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            long memory = measure(MemoryItemRepository::new, threads);
+            long columnar = measure(ColumnarItemRepository::new, threads);
+            long sharded = measure(() -> new ShardedItemRepository(cores), threads);
+            System.out.printf("%-8d %10d/s %10d/s %10d/s%n", threads, memory, columnar, sharded);
+        }
+    }
+
+    private long measure(Supplier<ItemRepository> repositorySupplier, int threads) throws Exception {
+        ItemRepository itemRepository = repositorySupplier.get();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < SAVES_PER_THREAD; i++) {
+                    itemRepository.save(new Item("item" + i, 1000 + i % 999000, i % 9999));
+                }
+                return null;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        executor.shutdown();
+        itemRepository.clearStore();
+        return (long) threads * SAVES_PER_THREAD * 1_000_000_000L / elapsed;
+    }
+}
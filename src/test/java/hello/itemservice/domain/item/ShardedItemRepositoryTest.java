@@ -0,0 +1,121 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShardedItemRepositoryTest {
+
+    ShardedItemRepository itemRepository = new ShardedItemRepository(4);
+
+    @Test
+    void saveFromManyThreads() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    itemRepository.save(new Item("item" + i, 1000 + i, i));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        List<Item> result = itemRepository.findAll();
+        assertThat(result).hasSize(8000);
+        assertThat(result).extracting(Item::getId).isSorted().doesNotHaveDuplicates();
+        assertThat(itemRepository.findByPriceBetween(1000, 1000)).hasSize(8);
+    }
+
+    @Test
+    void findSliceAcrossShards() {
+        //given
+        for (int i = 0; i < 10; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        //when
+        List<Item> items = new ArrayList<>();
+        Long after = null;
+        do {
+            ItemSlice slice = itemRepository.findSlice(after, 3);
+            items.addAll(slice.getItems());
+            after = slice.getNextCursor();
+        } while (after != null);
+
+        //then
+        assertThat(items).containsExactlyElementsOf(itemRepository.findAll());
+    }
+
+    @Test
+    void updateWithVersion() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+
+        //when
+        boolean first = itemRepository.update(savedItem.getId(), 0, new Item("item2", 20000, 20));
+        boolean second = itemRepository.update(savedItem.getId(), 0, new Item("item3", 30000, 30));
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(itemRepository.findById(savedItem.getId()).getItemName()).isEqualTo("item2");
+        assertThat(itemRepository.findByPriceBetween(20000, 20000)).hasSize(1);
+    }
+
+    @Test
+    void pagingWhileSaving() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    itemRepository.saveAll(List.of(new Item("item" + i, 1000, 1), new Item("item" + i, 2000, 2)));
+                }
+            }));
+        }
+
+        //when - 저장 중에 처음부터 끝까지 페이징
+        List<Long> pagedIds = new ArrayList<>();
+        Long after = null;
+        do {
+            ItemSlice slice = itemRepository.findSlice(after, 7);
+            slice.getItems().forEach(item -> pagedIds.add(item.getId()));
+            after = slice.getNextCursor();
+        } while (after != null);
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then - 전체 시퀀스에서 발급 -> 빈 번호 없이 1 ~ 8000
+        List<Item> result = itemRepository.findAll();
+        assertThat(result).hasSize(8000);
+        assertThat(result.get(0).getId()).isEqualTo(1L);
+        assertThat(result.get(result.size() - 1).getId()).isEqualTo(8000L);
+        assertThat(pagedIds).isSorted().doesNotHaveDuplicates();
+
+        List<Item> paged = new ArrayList<>();
+        after = null;
+        do {
+            ItemSlice slice = itemRepository.findSlice(after, 100);
+            paged.addAll(slice.getItems());
+            after = slice.getNextCursor();
+        } while (after != null);
+        assertThat(paged).containsExactlyElementsOf(result);
+    }
+}
@@ -0,0 +1,131 @@
+package hello.itemservice.domain.item.wal;
+
+import hello.itemservice.domain.item.ColumnarItemRepository;
+import hello.itemservice.domain.item.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WalItemRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    WalItemRepository open(Path path, FsyncPolicy fsyncPolicy) {
+        //재시작 흉내 -> 매번 비어 있는 저장소에 로그를 재생
+        return new WalItemRepository(new ColumnarItemRepository(), new ItemWriteAheadLog(path, fsyncPolicy, 100, 64));
+    }
+
+    @Test
+    void replayAfterRestart() throws Exception {
+        //given
+        Path path = tempDir.resolve("items.wal");
+        WalItemRepository itemRepository = open(path, FsyncPolicy.BATCH);
+        Item itemA = itemRepository.save(new Item("itemA", 10000, 10));
+        Item itemB = itemRepository.save(new Item("itemB", 20000, 20));
+        itemRepository.update(itemA.getId(), new Item("itemA-수정", 30000, 30));
+        itemRepository.close();
+
+        //when
+        WalItemRepository restarted = open(path, FsyncPolicy.ALWAYS);
+
+        //then
+        Item findItemA = restarted.findById(itemA.getId());
+        assertThat(restarted.findAll()).hasSize(2);
+        assertThat(findItemA.getItemName()).isEqualTo("itemA-수정");
+        assertThat(findItemA.getPrice()).isEqualTo(30000);
+        assertThat(findItemA.getQuantity()).isEqualTo(30);
+        assertThat(restarted.findById(itemB.getId()).getItemName()).isEqualTo("itemB");
+        restarted.close();
+    }
+
+    @Test
+    void ignoreTornTail() throws Exception {
+        //given
+        Path path = tempDir.resolve("items.wal");
+        WalItemRepository itemRepository = open(path, FsyncPolicy.ALWAYS);
+        itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.close();
+        long validSize = Files.size(path);
+
+        //쓰다가 끊긴 레코드
+        Files.write(path, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        //when
+        WalItemRepository restarted = open(path, FsyncPolicy.INTERVAL);
+        restarted.save(new Item("itemB", 20000, 20));
+        restarted.close();
+
+        //then
+        WalItemRepository again = open(path, FsyncPolicy.BATCH);
+        assertThat(again.findAll()).extracting(Item::getItemName).containsExactly("itemA", "itemB");
+        assertThat(Files.size(path)).isGreaterThan(validSize);
+        again.close();
+    }
+
+    @Test
+    void clearStore() throws Exception {
+        //given
+        Path path = tempDir.resolve("items.wal");
+        WalItemRepository itemRepository = open(path, FsyncPolicy.BATCH);
+        itemRepository.save(new Item("itemA", 10000, 10));
+
+        //when
+        itemRepository.clearStore();
+        itemRepository.close();
+
+        //then
+        WalItemRepository restarted = open(path, FsyncPolicy.BATCH);
+        assertThat(restarted.findAll()).isEmpty();
+        restarted.close();
+    }
+
+    @Test
+    void failedAppendLeavesRepositoryUnchanged() throws Exception {
+        //given
+        ColumnarItemRepository delegate = new ColumnarItemRepository();
+        ItemWriteAheadLog wal = new ItemWriteAheadLog(tempDir.resolve("items.wal"), FsyncPolicy.ALWAYS, 100, 64);
+        WalItemRepository itemRepository = new WalItemRepository(delegate, wal);
+        Item itemA = itemRepository.save(new Item("itemA", 10000, 10));
+        wal.close(); //이후 기록은 실패
+
+        //when
+        assertThatThrownBy(() -> itemRepository.save(new Item("itemB", 20000, 20)))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> itemRepository.saveAll(List.of(new Item("itemC", 30000, 30))))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> itemRepository.update(itemA.getId(), new Item("itemA-수정", 30000, 30)))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> itemRepository.update(itemA.getId(), 0, new Item("itemA-수정", 30000, 30)))
+                .isInstanceOf(UncheckedIOException.class);
+
+        //then
+        assertThat(delegate.findAll()).extracting(Item::getItemName).containsExactly("itemA");
+        assertThat(delegate.findById(itemA.getId()).getVersion()).isEqualTo(0);
+    }
+
+    @Test
+    void versionConflictIsNotLogged() throws Exception {
+        //given
+        Path path = tempDir.resolve("items.wal");
+        WalItemRepository itemRepository = open(path, FsyncPolicy.ALWAYS);
+        Item itemA = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.update(itemA.getId(), 0, new Item("itemA-1", 10000, 10));
+        long size = Files.size(path);
+
+        //when
+        boolean updated = itemRepository.update(itemA.getId(), 0, new Item("itemA-2", 10000, 10));
+
+        //then
+        assertThat(updated).isFalse();
+        assertThat(Files.size(path)).isEqualTo(size);
+        itemRepository.close();
+    }
+}
@@ -0,0 +1,68 @@
+package hello.itemservice.message;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 오류 메시지 포맷 처리량 비교 (./gradlew benchmark 로 실행)
+ * 오류 화면 한번에 나오는 메시지들(범위, 최대값, 총액)을 여러 스레드에서 동시에 포맷
+ * */
+@Tag("benchmark")
+class MessageSourceThroughputTest {
+
+    static final int LOOKUPS_PER_THREAD = 500_000;
+
+    @Test
+    void compareFormatThroughput() throws Exception {
+        ResourceBundleMessageSource resourceBundle = new ResourceBundleMessageSource();
+        resourceBundle.setBasenames("messages", "errors");
+        resourceBundle.setDefaultEncoding("utf-8");
+        PrecompiledMessageSource precompiled = new PrecompiledMessageSource(new String[]{"messages", "errors"}, StandardCharsets.UTF_8, true);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-8s %14s %14s%n", "threads", "resourceBundle", "precompiled");
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            long resourceBundleOps = measure(resourceBundle, threads);
+            long precompiledOps = measure(precompiled, threads);
+            System.out.printf("%-8d %12d/s %12d/s%n", threads, resourceBundleOps, precompiledOps);
+        }
+    }
+
+    private long measure(MessageSource messageSource, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Locale locale = t % 2 == 0 ? Locale.KOREA : Locale.ENGLISH;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+                    messageSource.getMessage("range.java.lang.Integer", new Object[]{1000, 1000000}, locale);
+                    messageSource.getMessage("max.java.lang.Integer", new Object[]{9999}, locale);
+                    messageSource.getMessage("totalPriceMin.item", new Object[]{10000, i}, locale);
+                }
+                return null;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        executor.shutdown();
+        return (long) threads * LOOKUPS_PER_THREAD * 3 * 1_000_000_000L / elapsed;
+    }
+}
@@ -0,0 +1,102 @@
+package hello.itemservice.message;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PrecompiledMessageSourceTest {
+
+    PrecompiledMessageSource ms = new PrecompiledMessageSource(new String[]{"messages", "errors"}, StandardCharsets.UTF_8, true);
+
+    @Test
+    void sameAsResourceBundleMessageSource() throws IOException {
+        ResourceBundleMessageSource expected = new ResourceBundleMessageSource();
+        expected.setBasenames("messages", "errors");
+        expected.setDefaultEncoding("utf-8");
+
+        Object[] args = {10000, 9000, 1000L};
+        for (Locale locale : new Locale[]{Locale.KOREA, Locale.KOREAN, Locale.ENGLISH}) {
+            for (String code : codes()) {
+                assertThat(ms.getMessage(code, null, locale)).as(code).isEqualTo(expected.getMessage(code, null, locale));
+                assertThat(ms.getMessage(code, args, locale)).as(code).isEqualTo(expected.getMessage(code, args, locale));
+            }
+        }
+    }
+
+    @Test
+    void errorMessage() {
+        String result = ms.getMessage("totalPriceMin.item", new Object[]{10000, 5000}, Locale.KOREA);
+        assertThat(result).isEqualTo("상품의 가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 = 5,000");
+    }
+
+    @Test
+    void enLang() {
+        assertThat(ms.getMessage("hello.name", new Object[]{"Spring"}, Locale.ENGLISH)).isEqualTo("hello Spring");
+        //messages_en 에 없는 코드는 기본 파일에서
+        assertThat(ms.getMessage("range.java.lang.Integer", new Object[]{1000, 1000000}, Locale.ENGLISH))
+                .isEqualTo("1,000 ~ 1,000,000 까지의 숫자를 입력해주세요.");
+    }
+
+    @Test
+    void bundlesBoundedByFiles() {
+        //given - Accept-Language 는 클라이언트가 정한다.
+        for (String tag : new String[]{"en-US", "en-GB", "en-AU-x-lvariant-POSIX", "de-DE", "fr", "ko-KR", "zz"}) {
+            ms.getMessage("hello", null, Locale.forLanguageTag(tag));
+        }
+
+        //then - 파일이 있는 locale(messages_en)과 기본 파일로만 읽는다.
+        assertThat(ms.loadedLocales()).isSubsetOf(Locale.ENGLISH, Locale.ROOT);
+        assertThat(ms.getMessage("hello.name", new Object[]{"Spring"}, Locale.UK)).isEqualTo("hello Spring");
+    }
+
+    @Test
+    void resolvableArgument() {
+        DefaultMessageSourceResolvable field = new DefaultMessageSourceResolvable(new String[]{"label.item.price"}, "price");
+        String result = ms.getMessage("max", new Object[]{field}, Locale.ENGLISH);
+        assertThat(result).isEqualTo("price 까지 허용합니다.");
+    }
+
+    @Test
+    void notFoundMessageCode() {
+        assertThatThrownBy(() -> ms.getMessage("no_code", null, Locale.KOREA))
+                .isInstanceOf(NoSuchMessageException.class);
+        assertThat(ms.getMessage("no_code", null, "기본 메시지", Locale.KOREA)).isEqualTo("기본 메시지");
+    }
+
+    @Test
+    void reload() {
+        //given
+        ms.preload(Locale.KOREA, Locale.ENGLISH);
+        String before = ms.getMessage("hello", null, Locale.ENGLISH);
+
+        //when
+        ms.reload();
+
+        //then
+        assertThat(ms.getMessage("hello", null, Locale.ENGLISH)).isEqualTo(before);
+    }
+
+    private Set<String> codes() throws IOException {
+        Set<String> codes = new TreeSet<>();
+        for (String name : new String[]{"messages.properties", "messages_en.properties", "errors.properties"}) {
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(getClass().getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            codes.addAll(properties.stringPropertyNames());
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,105 @@
+package hello.itemservice.validadation;
+
+import hello.itemservice.web.validation.BatchValidationResult;
+import hello.itemservice.web.validation.BatchValidator;
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class BatchValidatorTest {
+
+    BatchValidator batchValidator = new BatchValidator(
+            Validation.buildDefaultValidatorFactory().getValidator(), new CachingMessageCodesResolver());
+
+    @Test
+    void validateAll() {
+        //given
+        List<ItemSaveForm> forms = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            //7 의 배수는 가격 범위 오류, 나머지는 정상
+            forms.add(saveForm("item" + i, i % 7 == 0 ? 10 : 10000, 10));
+        }
+
+        //when
+        BatchValidationResult result = batchValidator.validateAll(forms);
+
+        //then
+        assertThat(result.size()).isEqualTo(10_000);
+        assertThat(result.getInvalidCount()).isEqualTo(1429);
+        assertThat(result.isValid(1)).isTrue();
+        assertThat(result.getErrorCodes(1)).isEmpty();
+        assertThat(result.isValid(7)).isFalse();
+        //가격 범위 + 총액
+        assertThat(result.getErrorCodes(7)).containsExactlyInAnyOrder("Range.price", "TotalPriceMin");
+        assertThat(result.getInvalidIndexes()).startsWith(0, 7, 14);
+    }
+
+    @Test
+    void updateForms() {
+        //given
+        ItemUpdateForm valid = new ItemUpdateForm();
+        valid.setId(1L);
+        valid.setItemName("itemA");
+        valid.setPrice(10000);
+        valid.setQuantity(10);
+        valid.setVersion(0);
+        ItemUpdateForm invalid = new ItemUpdateForm();
+
+        //when
+        BatchValidationResult result = batchValidator.validateAll(List.of(valid, invalid));
+
+        //then
+        assertThat(result.isValid(0)).isTrue();
+        assertThat(result.getErrorCodes(1)).containsExactlyInAnyOrder(
+                "NotNull.id", "NotBlank.itemName", "NotNull.price", "NotNull.quantity", "NotNull.version");
+    }
+
+    @Test
+    void nullElement() {
+        //given
+        List<ItemSaveForm> forms = Arrays.asList(saveForm("itemA", 10000, 10), null);
+
+        //when
+        BatchValidationResult result = batchValidator.validateAll(forms);
+
+        //then
+        assertThat(result.isValid(0)).isTrue();
+        assertThat(result.getErrorCodes(1)).containsExactly("NotNull");
+    }
+
+    @Test
+    void sameResultWithOneThread() {
+        //given
+        List<ItemSaveForm> forms = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            forms.add(saveForm(i % 3 == 0 ? " " : "item", 1000 + i, i % 11));
+        }
+
+        //when
+        BatchValidationResult parallel = batchValidator.validateAll(forms);
+        batchValidator.setParallelism(1);
+        BatchValidationResult single = batchValidator.validateAll(forms);
+
+        //then
+        assertThat(parallel.getInvalidIndexes()).isEqualTo(single.getInvalidIndexes());
+        for (int index : single.getInvalidIndexes()) {
+            assertThat(parallel.getErrorCodes(index)).containsExactlyInAnyOrder(single.getErrorCodes(index));
+        }
+    }
+
+    static ItemSaveForm saveForm(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+}
@@ -0,0 +1,49 @@
+package hello.itemservice.validadation;
+
+import hello.itemservice.web.validation.BatchValidator;
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스레드 수에 따른 대량 검증 처리량 (./gradlew benchmark 로 실행)
+ * */
+@Tag("benchmark")
+class BatchValidatorThroughputTest {
+
+    static final int FORMS = 500_000;
+
+    @Test
+    void compareThroughput() {
+        BatchValidator batchValidator = new BatchValidator(
+                Validation.buildDefaultValidatorFactory().getValidator(), new CachingMessageCodesResolver());
+
+        //절반은 오류 (가격 범위, 이름 공백)
+        List<ItemSaveForm> forms = new ArrayList<>(FORMS);
+        for (int i = 0; i < FORMS; i++) {
+            forms.add(BatchValidatorTest.saveForm(i % 4 == 0 ? " " : "item" + i, i % 4 == 1 ? 10 : 10000, 10));
+        }
+
+        //warm up
+        batchValidator.validateAll(forms);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-8s %14s %10s%n", "threads", "forms/s", "speedup");
+        long base = 0;
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            batchValidator.setParallelism(threads);
+            long start = System.nanoTime();
+            batchValidator.validateAll(forms);
+            long formsPerSecond = FORMS * 1_000_000_000L / (System.nanoTime() - start);
+            if (threads == 1) {
+                base = formsPerSecond;
+            }
+            System.out.printf("%-8d %12d/s %9.2fx%n", threads, formsPerSecond, (double) formsPerSecond / base);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package hello.itemservice.validadation;
+
+import hello.itemservice.web.validation.FailFastValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class FailFastValidatorTest {
+
+    FailFastValidator validator = new FailFastValidator();
+    FailFastValidator generatedValidator = new FailFastValidator(true);
+
+    @AfterEach
+    void afterEach() {
+        validator.destroy();
+        generatedValidator.destroy();
+    }
+
+    @Test
+    void stopAtFirstError() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10000);
+
+        //when
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        validator.validate(form, bindingResult);
+
+        //then
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void stopAtFirstErrorGenerated() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10000);
+
+        //when
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        generatedValidator.validate(form, bindingResult);
+
+        //then
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void validForm() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(10000);
+        form.setQuantity(10);
+
+        //when
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        validator.validate(form, bindingResult);
+
+        //then
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void skipWhenBindingFailed() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        bindingResult.rejectValue("price", "typeMismatch");
+
+        //when
+        validator.validate(form, bindingResult);
+
+        //then
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getFieldError().getCode()).isEqualTo("typeMismatch");
+    }
+}
@@ -0,0 +1,247 @@
+package hello.itemservice.validadation;
+
+import hello.itemservice.domain.item.PriceQuantity;
+import hello.itemservice.domain.item.TotalPriceMin;
+import hello.itemservice.web.validation.ItemValidatorAdapter;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.generated.GeneratedConstraintContext;
+import hello.itemservice.web.validation.generated.GeneratedValidator;
+import hello.itemservice.web.validation.generated.GeneratedValidatorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.Validation;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class GeneratedValidatorTest {
+
+    SpringValidatorAdapter beanValidator = new ItemValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+    GeneratedValidatorRegistry registry = new GeneratedValidatorRegistry(beanValidator);
+
+    @AfterEach
+    void afterEach() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void generatedForForms() {
+        assertThat(registry.getValidator(ItemSaveForm.class)).isNotNull();
+        assertThat(registry.getValidator(ItemUpdateForm.class)).isNotNull();
+    }
+
+    @Test
+    void saveFormSameAsBeanValidation() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10000);
+
+        //when
+        BeanPropertyBindingResult expected = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, expected);
+        BeanPropertyBindingResult actual = new BeanPropertyBindingResult(form, "item");
+        registry.validate(form, actual);
+
+        //then
+        assertThat(actual.getFieldErrorCount()).isEqualTo(3);
+        assertSameErrors(actual, expected);
+    }
+
+    @Test
+    void updateFormSameAsBeanValidation() {
+        //given
+        ItemUpdateForm form = new ItemUpdateForm();
+        form.setItemName("");
+        form.setPrice(2000000);
+
+        //when
+        BeanPropertyBindingResult expected = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, expected);
+        BeanPropertyBindingResult actual = new BeanPropertyBindingResult(form, "item");
+        registry.validate(form, actual);
+
+        //then
+        assertThat(actual.getFieldErrorCount()).isEqualTo(5);
+        assertSameErrors(actual, expected);
+        //직접 지정한 메시지는 그대로
+        assertThat(actual.getFieldError("price").getDefaultMessage()).isEqualTo("가격 오류");
+    }
+
+    @Test
+    void totalPriceMinSameAsBeanValidation() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(1000);
+        form.setQuantity(5);
+
+        //when
+        BeanPropertyBindingResult expected = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, expected);
+        BeanPropertyBindingResult actual = new BeanPropertyBindingResult(form, "item");
+        registry.validate(form, actual);
+
+        //then - 인자 = [최소 금액, 현재 총액]
+        assertThat(describeGlobal(actual.getGlobalErrors())).isEqualTo(describeGlobal(expected.getGlobalErrors()));
+        assertThat(actual.getGlobalError().getArguments()).containsExactly(10000L, 5000L);
+        assertThat(actual.getGlobalError().getDefaultMessage()).isEqualTo(expected.getGlobalError().getDefaultMessage());
+    }
+
+    @Test
+    void customViolationFallsBackToBeanValidation() {
+        //given - 위반을 직접 만드는 클래스 레벨 검증기는 생성된 검증기로 처리할 수 없다.
+        GeneratedValidatorRegistry customRegistry = new GeneratedValidatorRegistry(beanValidator, List.of(new CustomViolationValidator()));
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10000);
+
+        //when
+        BeanPropertyBindingResult expected = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, expected);
+        BeanPropertyBindingResult actual = new BeanPropertyBindingResult(form, "item");
+        customRegistry.validate(form, actual);
+
+        //then - Bean Validation 결과만 (중복 없음), 이후로는 Bean Validation 으로
+        assertThat(actual.getErrorCount()).isEqualTo(expected.getErrorCount());
+        assertSameErrors(actual, expected);
+        assertThat(describeGlobal(actual.getGlobalErrors())).isEqualTo(describeGlobal(expected.getGlobalErrors()));
+        assertThat(customRegistry.getValidator(ItemSaveForm.class)).isNull();
+    }
+
+    @Test
+    void defaultMessageFollowsLocale() {
+        //given - 스프링처럼 요청 locale(LocaleContextHolder)로 메시지를 보간하는 Bean Validation
+        LocalValidatorFactoryBean localeValidator = new LocalValidatorFactoryBean();
+        localeValidator.afterPropertiesSet();
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10000);
+
+        for (Locale locale : List.of(Locale.ENGLISH, Locale.KOREAN)) {
+            LocaleContextHolder.setLocale(locale);
+
+            //when
+            BeanPropertyBindingResult expected = new BeanPropertyBindingResult(form, "item");
+            localeValidator.validate(form, expected);
+            BeanPropertyBindingResult actual = new BeanPropertyBindingResult(form, "item");
+            registry.validate(form, actual);
+
+            //then
+            assertThat(defaultMessages(actual)).isEqualTo(defaultMessages(expected));
+        }
+        localeValidator.close();
+    }
+
+    @Test
+    void validForm() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(10000);
+        form.setQuantity(10);
+
+        //when
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(form, "item");
+        registry.validate(form, result);
+
+        //then
+        assertThat(result.hasErrors()).isFalse();
+    }
+
+    @Test
+    void otherGroupSkipped() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+
+        //when
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(form, "item");
+        GeneratedValidator validator = registry.getValidator(ItemSaveForm.class);
+        validator.validate(form, result, String.class);
+
+        //then
+        assertThat(result.hasErrors()).isFalse();
+    }
+
+    /* 코드, 인자, 거절된 값 비교 (기본 메시지는 로케일에 따라 달라서 제외) */
+    private void assertSameErrors(BeanPropertyBindingResult actual, BeanPropertyBindingResult expected) {
+        assertThat(describe(actual.getFieldErrors())).isEqualTo(describe(expected.getFieldErrors()));
+    }
+
+    private List<String> defaultMessages(BeanPropertyBindingResult result) {
+        return result.getFieldErrors().stream()
+                .sorted(Comparator.comparing(FieldError::getField).thenComparing(FieldError::getCode))
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+    }
+
+    private List<String> describeGlobal(List<ObjectError> errors) {
+        return errors.stream()
+                .map(error -> String.join(",", error.getCodes()) + " " + List.of(error.getArguments()))
+                .collect(Collectors.toList());
+    }
+
+    private List<String> describe(List<FieldError> errors) {
+        return errors.stream()
+                .sorted(Comparator.comparing(FieldError::getField).thenComparing(FieldError::getCode))
+                .map(error -> error.getField() + " " + String.join(",", error.getCodes())
+                        + " " + List.of(error.getArguments()) + " " + error.getRejectedValue())
+                .collect(Collectors.toList());
+    }
+
+    /* 생성된 코드처럼 클래스 레벨 검증기를 먼저 호출하는데, 그 검증기가 위반을 직접 만든다. */
+    static class CustomViolationValidator implements GeneratedValidator {
+
+        private static final ConstraintValidator<TotalPriceMin, PriceQuantity> CUSTOM = (value, context) -> {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate("{TotalPriceMin}").addPropertyNode("price").addConstraintViolation();
+            return false;
+        };
+
+        @Override
+        public Class<?> targetType() {
+            return ItemSaveForm.class;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return ItemSaveForm.class == clazz;
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            validate(target, errors, NO_HINTS);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            validate(target, errors, false, validationHints);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, boolean failFast, Object... validationHints) {
+            ItemSaveForm form = (ItemSaveForm) target;
+            GeneratedConstraintContext violation = GeneratedConstraintContext.violation(CUSTOM, form, "{TotalPriceMin}");
+            errors.reject("NotReached"); //필드 검사 자리 (검증기가 실패하면 오지 않는다)
+            if (violation != null) {
+                GeneratedValidator.reject(errors, "TotalPriceMin", violation.arguments(), violation.message());
+            }
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package hello.itemservice.validadation;
 
 
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.validation.DefaultMessageCodesResolver;
 import org.springframework.validation.MessageCodesResolver;
 import org.springframework.validation.ObjectError;
 
+import java.lang.management.ManagementFactory;
+
 import static org.assertj.core.api.Assertions.*;
 
 public class MessageCodesResolverTest {
@@ -42,4 +46,55 @@ public class MessageCodesResolverTest {
         assertThat(messageCodes).containsExactly("required.item.itemName","required.itemName","required.java.lang.String","required");
 
     }
+
+    @Test
+    void cachingResolverSameCodes() {
+        MessageCodesResolver cachingResolver = new CachingMessageCodesResolver();
+
+        assertThat(cachingResolver.resolveMessageCodes("required", "item"))
+                .containsExactly(codesResolver.resolveMessageCodes("required", "item"));
+        assertThat(cachingResolver.resolveMessageCodes("range", "item", "price", Integer.class))
+                .containsExactly(codesResolver.resolveMessageCodes("range", "item", "price", Integer.class));
+        assertThat(cachingResolver.resolveMessageCodes("range", "item", "price", null))
+                .containsExactly(codesResolver.resolveMessageCodes("range", "item", "price", null));
+
+        /* 같은 입력이면 같은 배열을 돌려준다. */
+        assertThat(cachingResolver.resolveMessageCodes("range", "item", "price", Integer.class))
+                .isSameAs(cachingResolver.resolveMessageCodes("range", "item", "price", Integer.class));
+        /* 객체 에러 코드와 필드 에러 코드는 섞이지 않는다. */
+        assertThat(cachingResolver.resolveMessageCodes("range", "item"))
+                .containsExactly("range.item", "range");
+    }
+
+    /* 스레드 할당량(JVM, JIT 상태)에 따라 결과가 달라서 일반 테스트에서는 제외 (./gradlew benchmark) */
+    @Tag("benchmark")
+    @Test
+    void cachingResolverAllocation() {
+        MessageCodesResolver cachingResolver = new CachingMessageCodesResolver();
+        int count = 100_000;
+
+        //warm up
+        resolveRepeatedly(codesResolver, count);
+        resolveRepeatedly(cachingResolver, count);
+
+        long defaultBytes = allocatedBytes(() -> resolveRepeatedly(codesResolver, count));
+        long cachingBytes = allocatedBytes(() -> resolveRepeatedly(cachingResolver, count));
+
+        /* 매번 문자열 4개 + 배열을 만드는 것보다 확실히 적어야 한다. */
+        assertThat(cachingBytes).isLessThan(defaultBytes / 4);
+    }
+
+    private void resolveRepeatedly(MessageCodesResolver resolver, int count) {
+        for (int i = 0; i < count; i++) {
+            resolver.resolveMessageCodes("range", "item", "price", Integer.class);
+        }
+    }
+
+    private long allocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
 }
@@ -0,0 +1,51 @@
+package hello.itemservice.validadation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TotalPriceMinTest {
+
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void totalPriceTooLow() {
+        //given
+        ItemSaveForm form = form(1000, 5);
+
+        //when
+        Set<ConstraintViolation<ItemSaveForm>> violations = validator.validate(form);
+
+        //then
+        assertThat(violations).hasSize(1);
+        ConstraintViolation<ItemSaveForm> violation = violations.iterator().next();
+        assertThat(violation.getPropertyPath().toString()).isEmpty();
+        assertThat(violation.getMessage()).isEqualTo("가격 * 수량의 합은 10000원 이상이어야 합니다. 현재 값 = 5000");
+    }
+
+    @Test
+    void noOverflow() {
+        //given (int 로 곱하면 넘쳐서 음수가 된다)
+        ItemSaveForm form = form(1000000, 9999);
+
+        //when
+        Set<ConstraintViolation<ItemSaveForm>> violations = validator.validate(form);
+
+        //then
+        assertThat(violations).isEmpty();
+    }
+
+    private ItemSaveForm form(int price, int quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+}
@@ -0,0 +1,46 @@
+package hello.itemservice.validadation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.message.PrecompiledMessageSource;
+import hello.itemservice.web.validation.ItemValidatorAdapter;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ValidationError;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import javax.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ValidationErrorTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    MessageSource messageSource = new PrecompiledMessageSource(new String[]{"messages", "errors"}, StandardCharsets.UTF_8, true);
+    ItemValidatorAdapter validator = new ItemValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void compactPayload() throws Exception {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(10);
+        form.setQuantity(10);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        validator.validate(form, bindingResult);
+
+        //when
+        List<ValidationError> errors = ValidationError.of(bindingResult.getAllErrors(), messageSource, Locale.KOREA);
+        String json = objectMapper.writeValueAsString(errors);
+
+        //then
+        assertThat(json).isEqualTo("[{\"field\":\"price\",\"code\":\"Range\",\"message\":\"price, 1,000 ~ 1,000,000 허용\",\"rejectedValue\":10},"
+                + "{\"field\":null,\"code\":\"TotalPriceMin\",\"message\":\"전체 가격은 10,000원 이상이어야 합니다. 현재 값 = 100\",\"rejectedValue\":null}]");
+
+        String fullJson = objectMapper.writeValueAsString(bindingResult.getAllErrors());
+        assertThat(json.length()).isLessThan(fullJson.length() / 3);
+    }
+}
@@ -0,0 +1,81 @@
+package hello.itemservice.validadation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ValidationItemApiControllerTest {
+
+    static final String VALID = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}";
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void batchMixed() throws Exception {
+        //when
+        ResponseEntity<String> response = post("/validation/api/items/batch",
+                "[" + VALID + ",{\"itemName\":\" \",\"price\":10000,\"quantity\":10},null]");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode result = objectMapper.readTree(response.getBody());
+        assertThat(result.get("savedIds")).hasSize(1);
+        assertThat(result.get("errors").fieldNames()).toIterable().containsExactly("1", "2");
+        assertThat(result.at("/errors/1/0/field").asText()).isEqualTo("itemName");
+        assertThat(result.at("/errors/1/0/code").asText()).isEqualTo("NotBlank");
+        assertThat(result.at("/errors/2/0/field").isNull()).isTrue();
+        assertThat(result.at("/errors/2/0/code").asText()).isEqualTo("NotNull");
+        assertThat(result.at("/errors/2/0/message").asText()).isEqualTo("상품 정보가 없습니다.");
+    }
+
+    @Test
+    void batchNullBody() {
+        //when
+        ResponseEntity<String> response = post("/validation/api/items/batch", "null");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void batchMaxSize() throws Exception {
+        //given
+        StringJoiner max = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 1000; i++) {
+            max.add(VALID);
+        }
+        String tooMany = max.toString().replace("]", "," + VALID + "]");
+
+        //when
+        ResponseEntity<String> maxResponse = post("/validation/api/items/batch", max.toString());
+        ResponseEntity<String> tooManyResponse = post("/validation/api/items/batch", tooMany);
+
+        //then
+        assertThat(maxResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(objectMapper.readTree(maxResponse.getBody()).get("savedIds")).hasSize(1000);
+        assertThat(tooManyResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<String> post(String url, String json) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForEntity(url, new HttpEntity<>(json, headers), String.class);
+    }
+}
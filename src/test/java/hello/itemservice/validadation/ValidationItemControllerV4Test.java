@@ -0,0 +1,56 @@
+package hello.itemservice.validadation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ValidationItemControllerV4Test {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void addTotalPriceMinMessage() {
+        //when
+        ResponseEntity<String> response = postForm("/validation/v4/items/add", "itemA", "1000", "5");
+
+        //then - TotalPriceMin.item 메시지, {0}=최소 금액, {1}=현재 가격 * 수량
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("상품의 가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 = 5,000");
+    }
+
+    @Test
+    void addValid() {
+        //when
+        ResponseEntity<String> response = postForm("/validation/v4/items/add", "itemA", "10000", "10");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+        assertThat(response.getHeaders().getLocation().getPath()).startsWith("/validation/v4/items/");
+    }
+
+    private ResponseEntity<String> postForm(String url, String itemName, String price, String quantity) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.setAcceptLanguageAsLocales(List.of(Locale.KOREA));
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("itemName", itemName);
+        form.add("price", price);
+        form.add("quantity", quantity);
+        return restTemplate.postForEntity(url, new HttpEntity<>(form, headers), String.class);
+    }
+}
@@ -0,0 +1,104 @@
+package hello.itemservice.validadation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ValidationItemReactiveControllerTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void addValid() {
+        //when
+        ResponseEntity<String> response = post("/validation/reactive/items/add", "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}\n");
+    }
+
+    @Test
+    void addTotalPriceMin() {
+        //when
+        ResponseEntity<String> response = post("/validation/reactive/items/add", "{\"itemName\":\"itemA\",\"price\":1000,\"quantity\":1}");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).startsWith("{\"field\":null,\"code\":\"TotalPriceMin\"").endsWith("}\n");
+    }
+
+    @Test
+    void invalidJson() {
+        //when
+        ResponseEntity<String> response = post("/validation/reactive/items/add", "{\"itemName\":");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("\"code\":\"invalidJson\"");
+    }
+
+    @Test
+    void batch() {
+        //when
+        ResponseEntity<String> response = post("/validation/reactive/items/batch",
+                "[{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10},{\"itemName\":\" \",\"price\":10000,\"quantity\":10}]");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"index\":1,\"errors\":[{\"field\":\"itemName\",\"code\":\"NotBlank\"");
+        assertThat(lines[1]).isEqualTo("{\"saved\":1,\"failed\":1}");
+    }
+
+    @Test
+    void addNullBody() {
+        //when
+        ResponseEntity<String> response = post("/validation/reactive/items/add", "null");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).startsWith("{\"field\":null,\"code\":\"NotNull\",\"message\":\"상품 정보가 없습니다.\"");
+    }
+
+    @Test
+    void batchNullBody() {
+        //when
+        ResponseEntity<String> response = post("/validation/reactive/items/batch", "null");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("\"code\":\"noItems\"");
+    }
+
+    @Test
+    void batchNullElement() {
+        //when
+        ResponseEntity<String> response = post("/validation/reactive/items/batch",
+                "[{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10},null]");
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"index\":1,\"errors\":[{\"field\":null,\"code\":\"NotNull\",\"message\":\"상품 정보가 없습니다.\"");
+        assertThat(lines[1]).isEqualTo("{\"saved\":1,\"failed\":1}");
+    }
+
+    private ResponseEntity<String> post(String url, String json) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForEntity(url, new HttpEntity<>(json, headers), String.class);
+    }
+}
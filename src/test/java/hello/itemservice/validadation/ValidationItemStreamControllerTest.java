@@ -0,0 +1,189 @@
+package hello.itemservice.validadation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ValidationItemStreamControllerTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    static final String VALID = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}";
+    static final int MAX_LINE_LENGTH = 64 * 1024; //ValidationItemStreamController.MAX_LINE_LENGTH
+    static final int IMPORT_BATCH_SIZE = 500; //ValidationItemStreamController.IMPORT_BATCH_SIZE
+
+    @BeforeEach
+    void beforeEach() {
+        itemRepository.clearStore();
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void exportNdjsonAcrossPages() throws Exception {
+        //given - 한 페이지(MAX_PAGE_SIZE) 를 넘도록
+        int count = ItemRepository.MAX_PAGE_SIZE * 2 + 50;
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item("item" + i, 10000 + i, i));
+        }
+        itemRepository.saveAll(items);
+
+        //when
+        ResponseEntity<String> response = restTemplate.getForEntity("/validation/api/items/export", String.class);
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            JsonNode line = objectMapper.readTree(lines[i]);
+            assertThat(line.get("id").asLong()).isEqualTo(items.get(i).getId());
+            assertThat(line.get("itemName").asText()).isEqualTo("item" + i);
+            assertThat(line.get("price").asInt()).isEqualTo(10000 + i);
+            assertThat(line.get("quantity").asInt()).isEqualTo(i);
+            assertThat(line.get("version").asInt()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void exportCsvQuoting() {
+        //given
+        Item plain = itemRepository.save(new Item("itemA", 10000, 10));
+        Item comma = itemRepository.save(new Item("a,b", 20000, 20));
+        Item quote = itemRepository.save(new Item("say \"hi\"", 30000, 30));
+        Item newLine = itemRepository.save(new Item("line1\nline2", null, 40));
+
+        //when
+        ResponseEntity<String> response = restTemplate.getForEntity("/validation/api/items/export?format=csv", String.class);
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        assertThat(response.getBody()).isEqualTo("id,itemName,price,quantity,version\n"
+                + plain.getId() + ",itemA,10000,10,0\n"
+                + comma.getId() + ",\"a,b\",20000,20,0\n"
+                + quote.getId() + ",\"say \"\"hi\"\"\",30000,30,0\n"
+                + newLine.getId() + ",\"line1\nline2\",,40,0\n");
+    }
+
+    @Test
+    void exportCsvAcrossPages() {
+        //given
+        int count = ItemRepository.MAX_PAGE_SIZE + 1;
+        for (int i = 0; i < count; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        //when
+        ResponseEntity<String> response = restTemplate.getForEntity("/validation/api/items/export?format=csv", String.class);
+
+        //then
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(count + 1);
+        assertThat(lines[count]).endsWith(",item" + (count - 1) + ",10000,10,0");
+    }
+
+    @Test
+    void exportUnknownFormat() {
+        //when
+        ResponseEntity<String> response = restTemplate.getForEntity("/validation/api/items/export?format=xml", String.class);
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void importReportsErrorsByLine() throws Exception {
+        //given - 빈 줄도 줄 번호에 포함, null 인 줄은 NotNull 오류
+        String body = VALID + "\n"
+                + "\n"
+                + "{\"itemName\":\"itemB\",\"price\":10,\"quantity\":10}\n"
+                + "{\"itemName\":\n"
+                + "x".repeat(MAX_LINE_LENGTH + 1) + "\r\n"
+                + "null\n"
+                + VALID;
+
+        //when
+        ResponseEntity<String> response = importItems(body);
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(5);
+
+        JsonNode rangeError = objectMapper.readTree(lines[0]);
+        assertThat(rangeError.get("line").asInt()).isEqualTo(3);
+        assertThat(rangeError.get("errors").findValuesAsText("code")).contains("Range");
+
+        JsonNode invalidJson = objectMapper.readTree(lines[1]);
+        assertThat(invalidJson.get("line").asInt()).isEqualTo(4);
+        assertThat(invalidJson.at("/errors/0/code").asText()).isEqualTo("invalidJson");
+
+        JsonNode lineTooLong = objectMapper.readTree(lines[2]);
+        assertThat(lineTooLong.get("line").asInt()).isEqualTo(5);
+        assertThat(lineTooLong.at("/errors/0/code").asText()).isEqualTo("lineTooLong");
+
+        JsonNode nullForm = objectMapper.readTree(lines[3]);
+        assertThat(nullForm.get("line").asInt()).isEqualTo(6);
+        assertThat(nullForm.at("/errors/0/code").asText()).isEqualTo("NotNull");
+
+        assertThat(lines[4]).isEqualTo("{\"saved\":2,\"failed\":4}");
+        assertThat(itemRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    void importSavesInBatches() {
+        //given - 저장 배치 2번 + 나머지 1개
+        int count = IMPORT_BATCH_SIZE * 2 + 1;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            body.append("{\"itemName\":\"item").append(i).append("\",\"price\":10000,\"quantity\":10}\n");
+        }
+
+        //when
+        ResponseEntity<String> response = importItems(body.toString());
+
+        //then
+        assertThat(response.getBody()).isEqualTo("{\"saved\":" + count + ",\"failed\":0}\n");
+        List<Item> items = itemRepository.findAll();
+        assertThat(items).hasSize(count);
+        assertThat(items.get(0).getItemName()).isEqualTo("item0");
+        assertThat(items.get(count - 1).getItemName()).isEqualTo("item" + (count - 1));
+    }
+
+    private ResponseEntity<String> importItems(String ndjson) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        return restTemplate.postForEntity("/validation/api/items/import", new HttpEntity<>(ndjson, headers), String.class);
+    }
+}
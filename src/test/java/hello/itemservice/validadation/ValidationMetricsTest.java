@@ -0,0 +1,56 @@
+package hello.itemservice.validadation;
+
+import hello.itemservice.web.validation.ValidationMetrics;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ValidationMetricsTest {
+
+    ValidationMetrics metrics = new ValidationMetrics();
+    SpringValidatorAdapter validator = new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void countPerConstraintAndField() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            metrics.validate(validator, form, new BeanPropertyBindingResult(form, "itemSaveForm"));
+        }
+
+        //then
+        assertThat(metrics.getRejectionCount("NotBlank", "itemName")).isEqualTo(3);
+        assertThat(metrics.getRejectionCount("Range", "price")).isEqualTo(3);
+        assertThat(metrics.getRejectionCount("TotalPriceMin", "")).isEqualTo(3);
+        assertThat(metrics.getRejectionCount("Max", "quantity")).isEqualTo(0);
+        assertThat(metrics.getValidationCount("-")).isEqualTo(3);
+    }
+
+    @Test
+    void scrape() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(1000);
+        form.setQuantity(1);
+        metrics.validate(validator, form, new BeanPropertyBindingResult(form, "itemSaveForm"));
+
+        //when
+        String result = metrics.scrape();
+
+        //then
+        assertThat(result).contains("item_validation_rejections_total{constraint=\"TotalPriceMin\",field=\"\"} 1\n");
+        assertThat(result).contains("item_validation_seconds_bucket{endpoint=\"-\",le=\"+Inf\"} 1\n");
+        assertThat(result).contains("item_validation_seconds_count{endpoint=\"-\"} 1\n");
+    }
+}
@@ -0,0 +1,139 @@
+package hello.itemservice.validadation;
+
+import hello.itemservice.web.validation.ValidationResultCache;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ValidationCacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ValidationResultCacheTest {
+
+    interface OtherCheck {
+    }
+
+    SpringValidatorAdapter validator = new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @AfterEach
+    void afterEach() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void sameFormHit() {
+        //given
+        ValidationResultCache cache = new ValidationResultCache(100, 60);
+        BeanPropertyBindingResult first = validate(cache, form(" ", 10, 10));
+
+        //when
+        BeanPropertyBindingResult second = validate(cache, form(" ", 10, 10));
+
+        //then
+        assertThat(second.getAllErrors()).isEqualTo(first.getAllErrors());
+        ValidationCacheStats stats = cache.getStats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void differentFormMiss() {
+        //given
+        ValidationResultCache cache = new ValidationResultCache(100, 60);
+        validate(cache, form("itemA", 10000, 10));
+
+        //when
+        BeanPropertyBindingResult result = validate(cache, form("itemA", 10, 10));
+
+        //then
+        assertThat(result.getFieldError("price")).isNotNull();
+        assertThat(cache.getStats().getHits()).isEqualTo(0);
+        assertThat(cache.getStats().getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void groupIsPartOfKey() {
+        //given
+        ValidationResultCache cache = new ValidationResultCache(100, 60);
+        validate(cache, form(" ", 10, 10));
+
+        //when
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(form(" ", 10, 10), "item");
+        cache.validate(validator, result.getTarget(), result, OtherCheck.class);
+
+        //then
+        assertThat(result.hasErrors()).isFalse();
+        assertThat(cache.getStats().getHits()).isEqualTo(0);
+    }
+
+    @Test
+    void localeIsPartOfKey() {
+        //given - 캐시된 오류의 기본 메시지는 검증한 요청의 locale 로 보간되어 있다.
+        ValidationResultCache cache = new ValidationResultCache(100, 60);
+        LocaleContextHolder.setLocale(Locale.KOREAN);
+        validate(cache, form(" ", 10, 10));
+
+        //when
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        validate(cache, form(" ", 10, 10));
+
+        //then
+        assertThat(cache.getStats().getHits()).isEqualTo(0);
+        assertThat(cache.getStats().getMisses()).isEqualTo(2);
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        //given
+        ValidationResultCache cache = new ValidationResultCache(2, 60);
+        validate(cache, form("item1", 10000, 10));
+        validate(cache, form("item2", 10000, 10));
+        validate(cache, form("item1", 10000, 10)); //item1 을 최근에 사용
+
+        //when
+        validate(cache, form("item3", 10000, 10)); //item2 제거
+
+        //then
+        validate(cache, form("item1", 10000, 10));
+        ValidationCacheStats stats = cache.getStats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void expired() {
+        //given
+        ValidationResultCache cache = new ValidationResultCache(100, 0);
+        validate(cache, form("itemA", 10000, 10));
+
+        //when
+        validate(cache, form("itemA", 10000, 10));
+
+        //then
+        assertThat(cache.getStats().getHits()).isEqualTo(0);
+        assertThat(cache.getStats().getMisses()).isEqualTo(2);
+    }
+
+    private BeanPropertyBindingResult validate(ValidationResultCache cache, ItemSaveForm form) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        cache.validate(validator, form, bindingResult);
+        return bindingResult;
+    }
+
+    private ItemSaveForm form(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+}
@@ -0,0 +1,37 @@
+package hello.itemservice.validadation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.FailFastValidator;
+import hello.itemservice.web.validation.ValidationWarmup;
+import hello.itemservice.web.validation.form.WarmupReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import javax.validation.Validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ValidationWarmupTest {
+
+    @Test
+    void warmUp() {
+        //given
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        FailFastValidator failFastValidator = new FailFastValidator();
+        ValidationWarmup warmup = new ValidationWarmup(Validation.buildDefaultValidatorFactory().getValidator(),
+                failFastValidator, messageSource, new CachingMessageCodesResolver(), new ObjectMapper());
+        assertThat(warmup.getReport().isReady()).isFalse();
+
+        //when
+        WarmupReport report = warmup.warmUp();
+
+        //then
+        assertThat(report.isReady()).isTrue();
+        assertThat(report.getPhases()).containsOnlyKeys("metadata", "binder", "validation", "messages", "json");
+        assertThat(warmup.getReport()).isSameAs(report);
+        failFastValidator.destroy();
+    }
+}
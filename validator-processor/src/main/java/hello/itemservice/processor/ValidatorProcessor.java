@@ -0,0 +1,630 @@
+package hello.itemservice.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@SupportedAnnotationTypes("*") //클래스 레벨 제약은 이름을 미리 알 수 없어서 전부 받고 아래에서 거른다.
+public class ValidatorProcessor extends AbstractProcessor {
+/**
+ * Bean Validation 어노테이션(필드)을 컴파일 시점에 읽어서, 리플렉션 없이 검증하는 Validator 소스를 만든다.
+ *   ㄴ ItemSaveForm -> ItemSaveForm_GeneratedValidator (같은 패키지)
+ *   ㄴ 만든 클래스는 META-INF/services/{@value #GENERATED_VALIDATOR} 에 등록 (실행시 ServiceLoader 로 찾음)
+ *   ㄴ failFast 면 첫번째 오류를 추가하고 바로 돌아간다.
+ *
+ * 오류 코드/인자/기본 메시지는 SpringValidatorAdapter 가 만드는 것과 같게 맞춘다.
+ *   ㄴ 코드: 어노테이션 이름 (NotBlank, Range ...)
+ *   ㄴ 인자: [필드 이름, 어노테이션 속성들(이름 순, message/groups/payload 제외)]
+ *   ㄴ 기본 메시지: message 속성(템플릿)을 실행할 때 요청 locale 로 보간 (GeneratedValidator.message)
+ *
+ * 클래스 레벨 제약은 제약마다 알 필요 없이 @Constraint(validatedBy) 의 검증기를 생성된 코드에서 직접 호출
+ *   ㄴ 검증기는 static 필드에 한번 만들어서 initialize (어노테이션은 클래스를 읽을 때 한번 리플렉션)
+ *   ㄴ context = GeneratedConstraintContext (기본 위반 하나, 메시지 파라미터, dynamic payload 오류 인자)
+ *   ㄴ 검증기는 오류를 추가하기 전에 먼저 호출 (직접 위반을 만드는 검증기면 GeneratedValidatorRegistry 가 Bean Validation 으로 fallback)
+ *   ㄴ 검증기가 하나이고, public 기본 생성자가 있고, 검증 대상 타입에 대입 가능해야 한다.
+ * 지원하지 않는 제약(모르는 필드 제약, 조건에 맞지 않는 클래스 레벨 제약, 상속 등)이 있는 클래스는 만들지 않는다. (기존 Bean Validation 으로 검증)
+ * */
+
+    static final String NOT_NULL = "javax.validation.constraints.NotNull";
+    static final String NOT_BLANK = "javax.validation.constraints.NotBlank";
+    static final String NOT_EMPTY = "javax.validation.constraints.NotEmpty";
+    static final String MAX = "javax.validation.constraints.Max";
+    static final String MIN = "javax.validation.constraints.Min";
+    static final String RANGE = "org.hibernate.validator.constraints.Range";
+
+    static final String CONSTRAINT = "javax.validation.Constraint";
+    static final String CONSTRAINT_VALIDATOR = "javax.validation.ConstraintValidator";
+    static final String DEFAULT_GROUP = "javax.validation.groups.Default";
+    static final String GENERATED_VALIDATOR = "hello.itemservice.web.validation.generated.GeneratedValidator";
+    static final String GENERATED_CONSTRAINT_CONTEXT = "hello.itemservice.web.validation.generated.GeneratedConstraintContext";
+    static final String SUFFIX = "_GeneratedValidator";
+
+    private final Map<String, TypeElement> targets = new LinkedHashMap<>();
+    private final List<String> generated = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD && isSupported(annotation.getQualifiedName().toString())) {
+                    TypeElement type = (TypeElement) element.getEnclosingElement();
+                    targets.putIfAbsent(type.getQualifiedName().toString(), type);
+                } else if (element.getKind() == ElementKind.CLASS && isConstraint(annotation)) {
+                    TypeElement type = (TypeElement) element;
+                    targets.putIfAbsent(type.getQualifiedName().toString(), type);
+                }
+            }
+        }
+
+        if (!roundEnv.processingOver()) {
+            for (TypeElement type : targets.values()) {
+                generate(type);
+            }
+            targets.clear();
+        } else if (!generated.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        String reason = unsupportedReason(type);
+        if (reason != null) {
+            note(type, "검증기를 만들지 않습니다 (" + reason + ") -> Bean Validation 사용");
+            return;
+        }
+
+        List<FieldConstraint> constraints = new ArrayList<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (isConstraint(mirror)) {
+                constraints.add(new FieldConstraint(null, mirror, annotationName(mirror)));
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.FIELD || enclosed.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            VariableElement field = (VariableElement) enclosed;
+            for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                String name = annotationName(mirror);
+                if (isSupported(name)) {
+                    constraints.add(new FieldConstraint(field, mirror, name));
+                }
+            }
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String targetName = type.getSimpleName().toString();
+        String className = targetName + SUFFIX;
+        String source = new SourceWriter(packageName, targetName, className, constraints).write();
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName + "." + className, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            generated.add(packageName + "." + className);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "검증기 생성 실패: " + e.getMessage(), type);
+        }
+    }
+
+    /* 생성할 수 없는 경우 이유, 가능하면 null */
+    private String unsupportedReason(TypeElement type) {
+        if (!(type.getEnclosingElement() instanceof PackageElement)) {
+            return "중첩 클래스";
+        }
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.NONE && !"java.lang.Object".equals(typeName(superclass))) {
+            return "상속";
+        }
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!isConstraint(mirror)) {
+                continue;
+            }
+            String constraintReason = unsupportedClassConstraint(type, mirror);
+            if (constraintReason != null) {
+                return constraintReason;
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            for (AnnotationMirror mirror : enclosed.getAnnotationMirrors()) {
+                if (!isConstraint(mirror) && !isSupported(annotationName(mirror))) {
+                    continue;
+                }
+                if (enclosed.getKind() != ElementKind.FIELD) {
+                    return "메소드/파라미터 제약";
+                }
+                if (!isSupported(annotationName(mirror))) {
+                    return "지원하지 않는 제약 " + annotationName(mirror);
+                }
+                String typeReason = unsupportedFieldType(annotationName(mirror), enclosed.asType());
+                if (typeReason != null) {
+                    return typeReason;
+                }
+                Map<String, Object> attributes = attributes(mirror);
+                if (!((List<?>) attributes.get("payload")).isEmpty()) {
+                    return "payload 사용";
+                }
+            }
+        }
+        return null;
+    }
+
+    /* 클래스 레벨 제약: 검증기를 생성된 코드에서 그대로 호출할 수 있는지 */
+    private String unsupportedClassConstraint(TypeElement type, AnnotationMirror mirror) {
+        String name = annotationName(mirror);
+        for (Map.Entry<String, Object> attribute : attributes(mirror).entrySet()) {
+            if ("payload".equals(attribute.getKey()) && !((List<?>) attribute.getValue()).isEmpty()) {
+                return "payload 사용";
+            }
+            if (!isMetaAttribute(attribute.getKey()) && literal(attribute.getValue()) == null) {
+                return name + " 의 속성 " + attribute.getKey() + " 타입";
+            }
+        }
+        TypeElement validator = validatorType(mirror);
+        if (validator == null) {
+            return name + " 의 검증기가 하나가 아님";
+        }
+        if (!isAccessible(validator) || !hasDefaultConstructor(validator)) {
+            return name + " 의 검증기 " + validator.getQualifiedName() + " 를 만들 수 없음 (public 기본 생성자)";
+        }
+        TypeMirror validated = validatedType(validator);
+        if (validated == null || validated.getKind() != TypeKind.DECLARED
+                || !processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type.asType()),
+                processingEnv.getTypeUtils().erasure(validated))) {
+            return name + " 의 검증 대상 타입";
+        }
+        return null;
+    }
+
+    /* @Constraint(validatedBy) 의 검증기 (하나일 때만) */
+    private TypeElement validatorType(AnnotationMirror mirror) {
+        for (AnnotationMirror meta : mirror.getAnnotationType().asElement().getAnnotationMirrors()) {
+            if (!CONSTRAINT.equals(annotationName(meta))) {
+                continue;
+            }
+            List<?> validators = (List<?>) attributes(meta).get("validatedBy");
+            if (validators.size() != 1) {
+                return null;
+            }
+            TypeMirror validator = (TypeMirror) ((AnnotationValue) validators.get(0)).getValue();
+            return (TypeElement) ((DeclaredType) validator).asElement();
+        }
+        return null;
+    }
+
+    /* ConstraintValidator<A, T> 의 T */
+    private TypeMirror validatedType(TypeElement validator) {
+        Deque<TypeMirror> pending = new ArrayDeque<>();
+        pending.push(validator.asType());
+        while (!pending.isEmpty()) {
+            for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(pending.pop())) {
+                if (CONSTRAINT_VALIDATOR.equals(typeName(supertype))) {
+                    List<? extends TypeMirror> arguments = ((DeclaredType) supertype).getTypeArguments();
+                    return arguments.size() == 2 ? arguments.get(1) : null;
+                }
+                pending.push(supertype);
+            }
+        }
+        return null;
+    }
+
+    /* 생성된 코드(다른 패키지)에서 new 할 수 있는 클래스 */
+    private static boolean isAccessible(TypeElement type) {
+        if (!type.getModifiers().contains(Modifier.PUBLIC) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        Element enclosing = type.getEnclosingElement();
+        if (enclosing instanceof PackageElement) {
+            return true;
+        }
+        return type.getModifiers().contains(Modifier.STATIC) && isAccessible((TypeElement) enclosing);
+    }
+
+    private static boolean hasDefaultConstructor(TypeElement type) {
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.CONSTRUCTOR
+                    && ((ExecutableElement) enclosed).getParameters().isEmpty()
+                    && enclosed.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String unsupportedFieldType(String constraint, TypeMirror type) {
+        String typeName = typeName(type);
+        if (NOT_BLANK.equals(constraint) || NOT_EMPTY.equals(constraint)) {
+            return "java.lang.String".equals(typeName) ? null : constraint + " 는 String 만 지원 (" + typeName + ")";
+        }
+        if (MAX.equals(constraint) || MIN.equals(constraint) || RANGE.equals(constraint)) {
+            return isIntegral(typeName) ? null : constraint + " 는 정수 타입만 지원 (" + typeName + ")";
+        }
+        return null;
+    }
+
+    /* 타입 이름 (필드 선언의 제약이 TYPE_USE 어노테이션으로도 붙어서 toString 에 섞이는 것을 피함) */
+    private static String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase();
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private static boolean isIntegral(String typeName) {
+        switch (typeName) {
+            case "int": case "long": case "short": case "byte":
+            case "java.lang.Integer": case "java.lang.Long": case "java.lang.Short": case "java.lang.Byte":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isSupported(String name) {
+        return NOT_NULL.equals(name) || NOT_BLANK.equals(name) || NOT_EMPTY.equals(name)
+                || MAX.equals(name) || MIN.equals(name) || RANGE.equals(name);
+    }
+
+    private static boolean isConstraint(AnnotationMirror mirror) {
+        return isConstraint((TypeElement) mirror.getAnnotationType().asElement());
+    }
+
+    private static boolean isConstraint(TypeElement annotation) {
+        for (AnnotationMirror meta : annotation.getAnnotationMirrors()) {
+            if (CONSTRAINT.equals(annotationName(meta))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /* 오류 인자, 메시지 파라미터에 넣지 않는 속성 */
+    private static boolean isMetaAttribute(String name) {
+        return "message".equals(name) || "groups".equals(name) || "payload".equals(name);
+    }
+
+    /* 어노테이션 속성 값 -> 소스 상수 (SpringValidatorAdapter 인자와 같은 타입), 지원하지 않는 타입이면 null */
+    private static String literal(Object value) {
+        if (value instanceof Long) {
+            return value + "L";
+        }
+        if (value instanceof Integer || value instanceof Boolean) {
+            return String.valueOf(value);
+        }
+        if (value instanceof String) {
+            return "\"" + SourceWriter.escape((String) value) + "\"";
+        }
+        return null;
+    }
+
+    /* 기본값 포함 어노테이션 속성 (이름 순) */
+    private Map<String, Object> attributes(AnnotationMirror mirror) {
+        Map<String, Object> attributes = new TreeMap<>();
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            attributes.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return attributes;
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + GENERATED_VALIDATOR);
+            try (Writer writer = file.openWriter()) {
+                for (String className : generated) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "검증기 서비스 파일 생성 실패: " + e.getMessage());
+        }
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+
+    /**
+     * 필드 하나에 붙은 제약 하나 (클래스 레벨 제약이면 field = "")
+     * */
+    private class FieldConstraint {
+        final String field;
+        final String fieldType;
+        final boolean primitive;
+        final String constraint;
+        final String validator;
+        final Map<String, Object> attributes;
+        final List<String> groups = new ArrayList<>();
+
+        FieldConstraint(VariableElement field, AnnotationMirror mirror, String constraint) {
+            this.field = field == null ? "" : field.getSimpleName().toString();
+            this.primitive = field != null && field.asType().getKind().isPrimitive();
+            this.fieldType = field == null ? null : typeName(field.asType());
+            this.constraint = constraint;
+            this.validator = field == null ? validatorType(mirror).getQualifiedName().toString() : null;
+            this.attributes = attributes(mirror);
+            for (Object group : (List<?>) attributes.get("groups")) {
+                groups.add(typeName((TypeMirror) ((AnnotationValue) group).getValue()));
+            }
+            if (groups.isEmpty()) {
+                groups.add(DEFAULT_GROUP);
+            }
+        }
+
+        String simpleConstraintName() {
+            return constraint.substring(constraint.lastIndexOf('.') + 1);
+        }
+
+        String getter() {
+            String prefix = "boolean".equals(fieldType) ? "is" : "get";
+            return prefix + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        }
+
+        long longAttribute(String name) {
+            return ((Number) attributes.get(name)).longValue();
+        }
+
+        /**
+         * 기본 메시지 식 -> GeneratedValidator.message("{javax.validation.constraints.Max.message}", "value", 9999L)
+         * 템플릿, 속성 값은 상수
+         * */
+        String messageExpression() {
+            StringBuilder expression = new StringBuilder("GeneratedValidator.message(\"")
+                    .append(SourceWriter.escape((String) attributes.get("message"))).append('"');
+            return expression.append(attributeParameters()).append(')').toString();
+        }
+
+        /* 메시지 파라미터 (, "이름", 값 ...) */
+        String attributeParameters() {
+            StringBuilder parameters = new StringBuilder();
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                if (!isMetaAttribute(entry.getKey())) {
+                    parameters.append(", \"").append(entry.getKey()).append("\", ").append(literal(entry.getValue()));
+                }
+            }
+            return parameters.toString();
+        }
+
+        /* 오류 인자 중 필드 이름 다음에 오는 어노테이션 속성 값 (이름 순) */
+        List<String> argumentLiterals() {
+            List<String> literals = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                if (!isMetaAttribute(entry.getKey())) {
+                    literals.add(literal(entry.getValue()));
+                }
+            }
+            return literals;
+        }
+    }
+
+    /**
+     * 검증기 소스 작성
+     * */
+    private static class SourceWriter {
+        private final String packageName;
+        private final String targetName;
+        private final String className;
+        private final List<FieldConstraint> constraints;
+        private final StringBuilder out = new StringBuilder();
+
+        SourceWriter(String packageName, String targetName, String className, List<FieldConstraint> constraints) {
+            this.packageName = packageName;
+            this.targetName = targetName;
+            this.className = className;
+            this.constraints = constraints;
+        }
+
+        String write() {
+            if (!packageName.isEmpty()) {
+                line("package " + packageName + ";");
+                line("");
+            }
+            line("import " + GENERATED_CONSTRAINT_CONTEXT + ";");
+            line("import " + GENERATED_VALIDATOR + ";");
+            line("import org.springframework.context.support.DefaultMessageSourceResolvable;");
+            line("import org.springframework.validation.Errors;");
+            line("");
+            line("@javax.annotation.processing.Generated(\"" + ValidatorProcessor.class.getName() + "\")");
+            line("public final class " + className + " implements GeneratedValidator {");
+            line("");
+            for (int i = 0; i < constraints.size(); i++) {
+                line("    private static final Class<?>[] GROUPS_" + i + " = {" + classLiterals(constraints.get(i).groups) + "};");
+            }
+            for (int i = 0; i < constraints.size(); i++) {
+                FieldConstraint c = constraints.get(i);
+                if (c.validator != null) {
+                    line("    private static final " + c.validator + " CONSTRAINT_" + i + " = GeneratedValidator.initialize(new "
+                            + c.validator + "(), " + targetName + ".class.getAnnotation(" + c.constraint + ".class));");
+                }
+            }
+            line("");
+            line("    @Override");
+            line("    public Class<?> targetType() {");
+            line("        return " + targetName + ".class;");
+            line("    }");
+            line("");
+            line("    @Override");
+            line("    public boolean supports(Class<?> clazz) {");
+            line("        return " + targetName + ".class == clazz;");
+            line("    }");
+            line("");
+            line("    @Override");
+            line("    public void validate(Object target, Errors errors) {");
+            line("        validate(target, errors, NO_HINTS);");
+            line("    }");
+            line("");
+            line("    @Override");
+            line("    public void validate(Object target, Errors errors, Object... validationHints) {");
+            line("        validate(target, errors, false, validationHints);");
+            line("    }");
+            line("");
+            line("    @Override");
+            line("    public void validate(Object target, Errors errors, boolean failFast, Object... validationHints) {");
+            line("        " + targetName + " form = (" + targetName + ") target;");
+            for (int i = 0; i < constraints.size(); i++) {
+                if (constraints.get(i).validator != null) {
+                    writeClassConstraintCall(i, constraints.get(i));
+                }
+            }
+            for (int i = 0; i < constraints.size(); i++) {
+                if (constraints.get(i).validator != null) {
+                    writeClassConstraint(i, constraints.get(i));
+                } else {
+                    writeConstraint(i, constraints.get(i));
+                }
+            }
+            line("    }");
+            line("}");
+            return out.toString();
+        }
+
+        private void writeConstraint(int index, FieldConstraint c) {
+            String value = "value" + index;
+            line("");
+            line("        // " + c.field + " @" + c.simpleConstraintName());
+            line("        if (GeneratedValidator.isActive(validationHints, GROUPS_" + index + ")) {");
+            line("            " + c.fieldType + " " + value + " = form." + c.getter() + "();");
+            line("            if (" + invalidCondition(c, value) + ") {");
+            StringBuilder arguments = new StringBuilder("GeneratedValidator.fieldArgument(errors, \"" + c.field + "\")");
+            for (String literal : c.argumentLiterals()) {
+                arguments.append(", ").append(literal);
+            }
+            line("                GeneratedValidator.rejectValue(errors, \"" + c.field + "\", " + boxedType(c.fieldType) + ".class, \""
+                    + c.simpleConstraintName() + "\", " + value + ", new Object[]{" + arguments + "}, "
+                    + c.messageExpression() + ");");
+            line("                if (failFast) {");
+            line("                    return;");
+            line("                }");
+            line("            }");
+            line("        }");
+        }
+
+        /**
+         * 클래스 레벨 검증기 호출: 오류를 하나라도 추가하기 전에 먼저 한다.
+         * 검증기가 지원하지 않는 context 기능을 쓰면 예외 -> GeneratedValidatorRegistry 가 errors 를 건드리지 않은 채 Bean Validation 으로 다시 검증
+         * */
+        private void writeClassConstraintCall(int index, FieldConstraint c) {
+            line("");
+            line("        // @" + c.simpleConstraintName() + " (" + c.validator + ")");
+            line("        GeneratedConstraintContext violation" + index + " = GeneratedValidator.isActive(validationHints, GROUPS_" + index + ")");
+            line("                ? GeneratedConstraintContext.violation(CONSTRAINT_" + index + ", form, \""
+                    + escape((String) c.attributes.get("message")) + "\")");
+            line("                : null;");
+        }
+
+        /**
+         * 객체 오류: 위에서 호출한 검증기 결과로 추가 (오류 순서는 선언 순서 그대로)
+         * 인자는 SpringValidatorAdapter 와 같이 [빈 필드 이름, 어노테이션 속성들], 검증기가 Object[] payload 를 넘기면 그것 (ItemValidatorAdapter)
+         * */
+        private void writeClassConstraint(int index, FieldConstraint c) {
+            String violation = "violation" + index;
+            StringBuilder arguments = new StringBuilder("GeneratedValidator.fieldArgument(errors, \"\")");
+            for (String literal : c.argumentLiterals()) {
+                arguments.append(", ").append(literal);
+            }
+            line("");
+            line("        // @" + c.simpleConstraintName());
+            line("        if (" + violation + " != null) {");
+            line("            GeneratedValidator.reject(errors, \"" + c.simpleConstraintName() + "\", "
+                    + violation + ".arguments(" + arguments + "), " + violation + ".message(" + c.attributeParameters().replaceFirst("^, ", "") + "));");
+            line("            if (failFast) {");
+            line("                return;");
+            line("            }");
+            line("        }");
+        }
+
+        private static String invalidCondition(FieldConstraint c, String value) {
+            String nullCheck = c.primitive ? "false" : value + " == null";
+            String notNull = c.primitive ? "" : value + " != null && ";
+            switch (c.constraint) {
+                case NOT_NULL:
+                    return nullCheck;
+                case NOT_BLANK:
+                    return value + " == null || " + value + ".trim().isEmpty()";
+                case NOT_EMPTY:
+                    return value + " == null || " + value + ".isEmpty()";
+                case MAX:
+                    return notNull + value + " > " + c.longAttribute("value") + "L";
+                case MIN:
+                    return notNull + value + " < " + c.longAttribute("value") + "L";
+                case RANGE:
+                    return notNull + "(" + value + " < " + c.longAttribute("min") + "L || " + value + " > " + c.longAttribute("max") + "L)";
+                default:
+                    throw new IllegalStateException(c.constraint);
+            }
+        }
+
+        private static String boxedType(String type) {
+            switch (type) {
+                case "int": return "Integer";
+                case "long": return "Long";
+                case "short": return "Short";
+                case "byte": return "Byte";
+                case "boolean": return "Boolean";
+                default: return type;
+            }
+        }
+
+        private static String classLiterals(List<String> classNames) {
+            StringBuilder literals = new StringBuilder();
+            for (String className : classNames) {
+                if (literals.length() > 0) {
+                    literals.append(", ");
+                }
+                literals.append(className).append(".class");
+            }
+            return literals.toString();
+        }
+
+        private static String escape(String text) {
+            return text.replace("\\", "\\\\").replace("\"", "\\\"");
+        }
+
+        private void line(String text) {
+            out.append(text).append('\n');
+        }
+    }
+}